@@ -0,0 +1,187 @@
+/*
+ * AbstractAlgorithm.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package algorithms;
+
+import graph.IndexedGraph;
+import graph.SpanningTree;
+import utils.Rng;
+
+import java.util.Arrays;
+
+/**
+ * Partie commune des algorithmes : chacun écrit les arêtes de l'arbre dans
+ * un tableau d'entiers gardé d'une exécution à l'autre, si bien que
+ * sample() ne crée aucun objet une fois les tableaux alloués. Une instance
+ * garde son état de travail entre deux exécutions : elle ne doit être
+ * utilisée que par un seul thread à la fois.
+ */
+public abstract class AbstractAlgorithm implements Algorithm {
+
+    /**
+     * Graphe où on applique l'algorithme.
+     */
+    protected final IndexedGraph graph;
+
+    /**
+     * Arêtes de l'arbre en construction.
+     */
+    private final int[] treeEdges;
+    private int treeSize;
+
+    /**
+     * Dernier arbre couvrant renvoyé par algo() (null avant le premier
+     * appel : sample() n'en a pas besoin).
+     */
+    private SpanningTree spanningTree;
+
+    /**
+     * Compteurs cumulés (null si désactivés) et compteurs de la dernière
+     * exécution, indexés par Counter.ordinal(). Ils sont remplis pendant une
+     * exécution si counting est vrai, c'est-à-dire si des compteurs sont
+     * branchés ou si l'événement JFR est enregistré.
+     */
+    private AlgorithmMetrics metrics;
+    private final long[] runCounters = new long[AlgorithmMetrics.COUNTERS.length];
+    private boolean counting;
+
+    /**
+     * Générateur pseudo-aléatoire, fourni à la construction pour pouvoir
+     * rejouer un tirage à partir de sa graine (null si l'algorithme n'est pas
+     * aléatoire).
+     */
+    protected final Rng random;
+
+    /**
+     * Graine du générateur (0 si l'algorithme n'est pas aléatoire) et nombre
+     * d'exécutions, pour les événements JFR.
+     */
+    private final long seed;
+    private long runs;
+
+    protected AbstractAlgorithm(IndexedGraph graph){
+        this(graph, null);
+    }
+
+    protected AbstractAlgorithm(IndexedGraph graph, Rng random){
+        this.graph = graph;
+        this.random = random;
+        this.seed = random == null ? 0 : random.seed();
+        this.treeEdges = new int[Math.max(graph.vertices() - 1, 0)];
+    }
+
+    /**
+     * Construit un arbre couvrant en appelant addEdge() pour chacune de ses
+     * arêtes.
+     */
+    protected abstract void generate();
+
+    /**
+     * Ajoute une arête à l'arbre en construction.
+     *
+     * @param id numéro d'arête.
+     */
+    protected final void addEdge(int id){
+        treeEdges[treeSize++] = id;
+    }
+
+    /**
+     * @return nombre d'arêtes déjà ajoutées à l'arbre en construction.
+     */
+    protected final int treeSize(){
+        return treeSize;
+    }
+
+    /**
+     * @return vrai si l'exécution en cours est mesurée : les algorithmes
+     * peuvent alors faire des mesures qui ont un coût.
+     */
+    protected final boolean countersEnabled(){
+        return counting;
+    }
+
+    /**
+     * Ajoute n au compteur de l'exécution en cours (sans effet si les
+     * compteurs sont désactivés). À appeler une fois par exécution, avec des
+     * valeurs comptées dans des variables locales.
+     */
+    protected final void count(AlgorithmMetrics.Counter counter, long n){
+        if (counting)
+            runCounters[counter.ordinal()] += n;
+    }
+
+    @Override
+    public void setMetrics(AlgorithmMetrics metrics){
+        this.metrics = metrics;
+        Arrays.fill(runCounters, 0);
+    }
+
+    @Override
+    public long lastRun(AlgorithmMetrics.Counter counter){
+        return runCounters[counter.ordinal()];
+    }
+
+    /**
+     * Une exécution de generate(), avec ses compteurs et son événement JFR.
+     * Quand l'événement n'est pas enregistré, la JVM supprime sa création :
+     * sans compteurs branchés, il ne reste que deux tests.
+     */
+    private void run(){
+        treeSize = 0;
+        GenerationEvent event = new GenerationEvent();
+        counting = metrics != null || event.isEnabled();
+        if (!counting){
+            generate();
+            runs++;
+            return;
+        }
+
+        Arrays.fill(runCounters, 0);
+        runCounters[AlgorithmMetrics.Counter.RUNS.ordinal()] = 1;
+        event.begin();
+        generate();
+        event.end();
+        if (metrics != null)
+            metrics.record(runCounters);
+        if (event.shouldCommit()){
+            event.algorithm = getTitle();
+            event.vertices = graph.vertices();
+            event.edges = graph.edgeCount();
+            event.seed = seed;
+            event.run = runs;
+            event.walkSteps = lastRun(AlgorithmMetrics.Counter.WALK_STEPS);
+            event.erasedSteps = lastRun(AlgorithmMetrics.Counter.ERASED_STEPS);
+            event.findDepth = lastRun(AlgorithmMetrics.Counter.FIND_DEPTH);
+            event.rejectedEdges = lastRun(AlgorithmMetrics.Counter.REJECTED_EDGES);
+            event.commit();
+        }
+        runs++;
+    }
+
+    @Override
+    public SpanningTree algo(){
+        run();
+
+        spanningTree = new SpanningTree(graph);
+        for (int k = 0; k < treeSize; k++)
+            spanningTree.add(treeEdges[k]);
+        return spanningTree;
+    }
+
+    @Override
+    public void sample(int count, TreeSink sink){
+        for (int i = 0; i < count; i++){
+            run();
+            sink.accept(treeEdges, treeSize);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return spanningTree == null ? "[]" : spanningTree.toString();
+    }
+}
@@ -8,10 +8,14 @@
 
 package algorithms;
 
+import graph.IndexedGraph;
 import graph.SpanningTree;
+import utils.Rng;
+
+import java.util.concurrent.ForkJoinPool;
 
 /**
- * Interface dont implémentent les 3 types d'algorithmes.
+ * Interface dont implémentent les différents types d'algorithmes.
  */
 public interface Algorithm {
 
@@ -21,7 +25,9 @@ public interface Algorithm {
     enum type{
         aldousBroder,
         wilson,
-        kruskal
+        kruskal,
+        boruvka,
+        prim
     }
 
     /**
@@ -30,4 +36,100 @@ public interface Algorithm {
     SpanningTree algo();
 
     String getTitle();
+
+    /**
+     * Tire count arbres couvrants et les donne un par un à sink. Les
+     * implémentations réutilisent leurs tableaux de travail d'un arbre à
+     * l'autre ; cette version par défaut passe par algo().
+     *
+     * @param count nombre d'arbres à tirer.
+     * @param sink destinataire des arbres.
+     */
+    default void sample(int count, TreeSink sink){
+        for (int i = 0; i < count; i++){
+            SpanningTree st = algo();
+            sink.accept(st.edgeIds(), st.size());
+        }
+    }
+
+    /**
+     * Active les compteurs (voir {@link AlgorithmMetrics}), ou les désactive
+     * avec null. Désactivés par défaut.
+     *
+     * @param metrics compteurs cumulés, qui peuvent être partagés entre
+     *                plusieurs algorithmes.
+     */
+    void setMetrics(AlgorithmMetrics metrics);
+
+    /**
+     * @param counter compteur.
+     * @return valeur du compteur pour la dernière exécution mesurée (avec
+     * des compteurs branchés ou pendant un enregistrement JFR).
+     */
+    long lastRun(AlgorithmMetrics.Counter counter);
+
+    /**
+     * @param t type d'algorithme.
+     * @param graph graphe où on applique l'algorithme.
+     * @return l'algorithme correspondant, avec un générateur de graine
+     * quelconque.
+     */
+    static Algorithm create(type t, IndexedGraph graph){
+        return create(t, graph, Rng.create());
+    }
+
+    /**
+     * @param t type d'algorithme.
+     * @param graph graphe où on applique l'algorithme.
+     * @param random générateur utilisé : avec la même graine, on obtient les
+     *               mêmes arbres.
+     * @return l'algorithme correspondant (séquentiel, sauf Borůvka qui utilise
+     * le pool commun). Prim tire de nouveaux poids uniformes à chaque
+     * exécution.
+     */
+    static Algorithm create(type t, IndexedGraph graph, Rng random){
+        switch (t){
+            case aldousBroder:
+                return new AlgorithmAldousBroder(graph, random);
+            case wilson:
+                return new AlgorithmWilson(graph, random);
+            case boruvka:
+                return new AlgorithmBoruvka(graph, ForkJoinPool.commonPool(), random);
+            case prim:
+                return new AlgorithmPrim(graph, random);
+            default:
+                return new AlgorithmKruskal(graph, random);
+        }
+    }
+
+    /**
+     * Version parallèle lorsqu'elle existe (Filter-Kruskal pour kruskal,
+     * Borůvka sur le pool donné).
+     * Les marches aléatoires d'Aldous-Broder et de Wilson sont séquentielles
+     * par nature : la version séquentielle est alors renvoyée.
+     *
+     * @param t type d'algorithme.
+     * @param graph graphe où on applique l'algorithme.
+     * @param pool pool de threads utilisé.
+     * @param random générateur utilisé.
+     * @return l'algorithme correspondant.
+     */
+    static Algorithm createParallel(type t, IndexedGraph graph, ForkJoinPool pool, Rng random){
+        if (t == type.kruskal)
+            return new AlgorithmFilterKruskal(graph, pool, random);
+        if (t == type.boruvka)
+            return new AlgorithmBoruvka(graph, pool, random);
+        return create(t, graph, random);
+    }
+
+    /**
+     * @param t type d'algorithme.
+     * @param graph graphe où on applique l'algorithme.
+     * @param pool pool de threads utilisé.
+     * @return l'algorithme correspondant, avec un générateur de graine
+     * quelconque.
+     */
+    static Algorithm createParallel(type t, IndexedGraph graph, ForkJoinPool pool){
+        return createParallel(t, graph, pool, Rng.create());
+    }
 }
@@ -9,39 +9,29 @@
 package algorithms;
 
 import com.sun.istack.internal.NotNull;
-import graph.Edge;
-import graph.Graph;
-import graph.SpanningTree;
+import graph.IndexedGraph;
+import utils.Rng;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.BitSet;
 
 /**
  * Classe qui cherche un arbre couvrant dans un graphe en appliquant la stratégie
  * de Aldous-Broder.
  */
-public class AlgorithmAldousBroder implements Algorithm {
+public class AlgorithmAldousBroder extends AbstractAlgorithm {
 
     /**
-     * Graphe où on applique l'algorithme.
+     * Sommets visités par la marche aléatoire.
      */
-    private final Graph graph;
+    private final BitSet grey;
 
-    /**
-     * Liste qui contient les sommets visités.
-     */
-    private List<Integer> grey;
-
-    /**
-     * Arbre couvrant mis à jour dans la méthode algo().
-     */
-    private SpanningTree spanningTree;
+    public AlgorithmAldousBroder(@NotNull IndexedGraph graph){
+        this(graph, Rng.create());
+    }
 
-    public AlgorithmAldousBroder(@NotNull Graph graph){
-        this.graph = graph;
-        this.grey = new ArrayList<>();
-        this.spanningTree = new SpanningTree();
+    public AlgorithmAldousBroder(@NotNull IndexedGraph graph, @NotNull Rng random){
+        super(graph, random);
+        this.grey = new BitSet(graph.vertices());
     }
 
     /* -------------------------------------------------
@@ -51,79 +41,49 @@ public class AlgorithmAldousBroder implements Algorithm {
     /**
      * Application de l'algorithme de Aldous-Broder pour trouver un arbre couvrant
      * du graphe donné.
-     * @return un arbre couvrant.
      */
     @Override
-    public SpanningTree algo(){
-        grey = new ArrayList<>();
-        spanningTree = new SpanningTree();
-        graph.clean();
+    protected void generate(){
+        grey.clear();
 
         // Choisit un sommet quelconque.
-        Random random = new Random();
         int start = random.nextInt(graph.vertices());
 
         // Marche aléatoire.
-        this.randomWalk(start);
-
-        return spanningTree;
+        count(AlgorithmMetrics.Counter.WALK_STEPS, this.randomWalk(start));
     }
 
     /**
      * Marche aléatoire selon la stratégie de Aldous-Broder. On commence sur
      * le sommet red, puis on se déplace aléatoirement sur l'un de ses voisins.
-     * Ensuite on lance l'appel récursif. L'algo s'arrête quand tous les sommets
-     * ont été visités.
+     * La première fois qu'un sommet est atteint, l'arête par laquelle on y
+     * est arrivé est ajoutée à l'arbre. La marche s'arrête quand tous les
+     * sommets ont été visités : le coût est proportionnel au temps de
+     * recouvrement du graphe.
      *
      * @param red sommet de départ.
-     * @return vrai.
+     * @return nombre de pas de la marche.
      */
-    private boolean randomWalk(@NotNull int red){
-        // Tous les sommets ont été visités.
-        if (isFinished()){
-
-            // Récupère l'arbre couvrant construit.
-            for (Edge e : graph.edges()){
-                if (e.isUsed()){
-                    spanningTree.add(e);
-                }
+    private long randomWalk(int red){
+        grey.set(red);
+        int remaining = graph.vertices() - 1;
+        long steps = 0;
+
+        while (remaining > 0){
+            steps++;
+            int nextIndex = random.nextInt(graph.degree(red));
+            int nextVertex = graph.neighbor(red, nextIndex);
+
+            // Si le sommet n'était pas visité, on ajoute l'arête à l'arbre.
+            if (!grey.get(nextVertex)) {
+                grey.set(nextVertex);
+                addEdge(graph.incidentEdgeId(red, nextIndex));
+                remaining--;
             }
-            return true;
-
-        }
-        else {
-            ArrayList<Edge> adj = graph.adj(red);
-            Random random = new Random();
-            int nextIndex = random.nextInt(adj.size());
-            Edge nextEdge = adj.get(nextIndex);
-            int nextVertex = nextEdge.other(red);
-
-            // Si le sommet n'était pas visité, on marque l'arête.
-            if (!grey.contains(nextVertex)) {
-                nextEdge.mark(true);
-            }
-
-            grey.add(red);
 
-            // Appel récursif.
-            return this.randomWalk(nextVertex);
+            red = nextVertex;
         }
-    }
-
-    /**
-     * @return true si tous les sommets ont été visités.
-     */
-    private boolean isFinished(){
-        boolean f = true;
-
-        // Tous les sommets visités.
-        for (int i = 0; i < graph.vertices(); i++){
-            if (!grey.contains(i)){
-                f = false;
-            }
-        }
-
-        return f;
+        return steps;
     }
 
     /* -------------------------------------------------
@@ -134,9 +94,4 @@ public class AlgorithmAldousBroder implements Algorithm {
     public String getTitle() {
         return "Aldous-Broder";
     }
-
-    @Override
-    public String toString() {
-        return spanningTree.toString();
-    }
 }
@@ -0,0 +1,190 @@
+/*
+ * AlgorithmBoruvka.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package algorithms;
+
+import graph.IndexedGraph;
+import utils.ConcurrentDisjointSet;
+import utils.ParallelFor;
+import utils.Rng;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Classe qui cherche un arbre couvrant avec l'algorithme de Borůvka, en
+ * parallèle. Chaque arête reçoit un poids aléatoire ; à chaque tour, chaque
+ * composante choisit son arête sortante la plus légère et les composantes
+ * sont réunies le long de ces arêtes. Le nombre de composantes est au moins
+ * divisé par deux à chaque tour, d'où O(log V) tours.
+ *
+ * L'arbre obtenu est l'arbre couvrant de poids minimum pour des poids
+ * aléatoires : il suit la même loi qu'avec {@link AlgorithmKruskal}.
+ */
+public class AlgorithmBoruvka extends AbstractAlgorithm {
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Poids aléatoires des arêtes.
+     */
+    private final long[] keys;
+
+    /**
+     * Arêtes encore candidates, rangées par blocs : le bloc b occupe
+     * [blockStart(b), blockStart(b) + alive[b]).
+     */
+    private final int[] candidates;
+    private final int[] alive;
+    private final int nBlocks;
+
+    /**
+     * best[r] est l'arête sortante la plus légère trouvée pour la composante
+     * de racine r pendant le tour, ou -1.
+     */
+    private final AtomicIntegerArray best;
+
+    private final ConcurrentDisjointSet components;
+
+    /**
+     * Arêtes de l'arbre, remplies en parallèle puis recopiées avec addEdge().
+     */
+    private final int[] treeEdges;
+    private final AtomicInteger treeSize;
+
+    public AlgorithmBoruvka(IndexedGraph graph, ForkJoinPool pool){
+        this(graph, pool, Rng.create());
+    }
+
+    public AlgorithmBoruvka(IndexedGraph graph, ForkJoinPool pool, Rng random){
+        super(graph, random);
+        this.pool = pool;
+        int E = graph.edgeCount();
+        int V = graph.vertices();
+        this.keys = new long[E];
+        this.candidates = new int[E];
+        this.nBlocks = ParallelFor.blockCount(pool, E);
+        this.alive = new int[nBlocks];
+        this.best = new AtomicIntegerArray(V);
+        this.components = new ConcurrentDisjointSet(V);
+        this.treeEdges = new int[Math.max(V - 1, 0)];
+        this.treeSize = new AtomicInteger();
+    }
+
+    /* -------------------------------------------------
+     *             APPLICATION DE L'ALGORITHME
+     * ------------------------------------------------- */
+
+    /**
+     * Applique l'algorithme de Borůvka pour trouver un arbre couvrant dans
+     * le graphe.
+     */
+    @Override
+    protected void generate() {
+        int V = graph.vertices();
+        int E = keys.length;
+        components.reset();
+        treeSize.set(0);
+        for (int v = 0; v < V; v++)
+            best.set(v, -1);
+
+        // Poids aléatoires, un générateur indépendant par morceau.
+        int nChunks = ParallelFor.chunkCount(E);
+        Rng[] generators = new Rng[nChunks];
+        for (int c = 0; c < nChunks; c++)
+            generators[c] = random.split();
+        ParallelFor.blocks(pool, nChunks, c -> {
+            Rng r = generators[c];
+            int end = Math.min(E, (c + 1) * ParallelFor.CHUNK);
+            for (int id = c * ParallelFor.CHUNK; id < end; id++){
+                keys[id] = r.nextLong();
+                candidates[id] = id;
+            }
+        });
+        for (int b = 0; b < nBlocks; b++)
+            alive[b] = ParallelFor.blockStart(b + 1, nBlocks, 0, E) - ParallelFor.blockStart(b, nBlocks, 0, E);
+
+        int vertexBlocks = ParallelFor.blockCount(pool, V);
+        int before = -1;
+        while (treeSize.get() < V - 1 && treeSize.get() != before){
+            before = treeSize.get();
+
+            // Arête la plus légère qui sort de chaque composante.
+            ParallelFor.blocks(pool, nBlocks, this::findLightest);
+
+            // Réunit les composantes le long des arêtes choisies.
+            ParallelFor.blocks(pool, vertexBlocks, b -> {
+                int end = ParallelFor.blockStart(b + 1, vertexBlocks, 0, V);
+                for (int r = ParallelFor.blockStart(b, vertexBlocks, 0, V); r < end; r++){
+                    int id = best.get(r);
+                    if (id < 0)
+                        continue;
+                    best.set(r, -1);
+                    if (components.union(graph.edgeFrom(id), graph.edgeTo(id)))
+                        treeEdges[treeSize.getAndIncrement()] = id;
+                }
+            });
+        }
+
+        for (int k = 0; k < treeSize.get(); k++)
+            addEdge(treeEdges[k]);
+    }
+
+    /**
+     * Parcourt les arêtes candidates du bloc b : celles qui sont dans une seule
+     * composante sont abandonnées, les autres sont proposées aux composantes
+     * de leurs deux extrémités.
+     *
+     * @param b numéro de bloc.
+     */
+    private void findLightest(int b){
+        int start = ParallelFor.blockStart(b, nBlocks, 0, keys.length);
+        int kept = start;
+        for (int k = start; k < start + alive[b]; k++){
+            int id = candidates[k];
+            int ru = components.find(graph.edgeFrom(id));
+            int rv = components.find(graph.edgeTo(id));
+            if (ru == rv)
+                continue;
+            candidates[kept++] = id;
+            propose(ru, id);
+            propose(rv, id);
+        }
+        alive[b] = kept - start;
+    }
+
+    /**
+     * Garde dans best[r] l'arête la plus légère entre l'actuelle et id.
+     */
+    private void propose(int r, int id){
+        while (true){
+            int current = best.get(r);
+            if (current >= 0 && !lighter(id, current))
+                return;
+            if (best.compareAndSet(r, current, id))
+                return;
+        }
+    }
+
+    /**
+     * @return vrai si l'arête a est plus légère que l'arête b (égalités
+     * départagées par le numéro d'arête).
+     */
+    private boolean lighter(int a, int b){
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+
+    /* -------------------------------------------------
+     *                      GETTERS
+     * ------------------------------------------------- */
+
+    @Override
+    public String getTitle() {
+        return "Borůvka";
+    }
+}
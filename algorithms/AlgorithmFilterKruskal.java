@@ -0,0 +1,255 @@
+/*
+ * AlgorithmFilterKruskal.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package algorithms;
+
+import graph.IndexedGraph;
+import utils.DisjointSet;
+import utils.ParallelFor;
+import utils.Rng;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+
+/**
+ * Version parallèle de Kruskal (Filter-Kruskal). Chaque arête reçoit une clé
+ * aléatoire ; on partage les arêtes autour d'une clé pivot, on traite d'abord
+ * les arêtes légères, puis on enlève des arêtes lourdes celles dont les deux
+ * extrémités sont déjà reliées avant de continuer. Les partages et les
+ * filtrages sont faits en parallèle, les unions restent séquentielles.
+ *
+ * Trier les arêtes selon des clés aléatoires revient à les mélanger : l'arbre
+ * obtenu suit la même loi qu'avec {@link AlgorithmKruskal}.
+ */
+public class AlgorithmFilterKruskal extends AbstractAlgorithm {
+
+    /**
+     * En dessous de cette taille, les partages sont faits séquentiellement.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 15;
+
+    /**
+     * En dessous de cette taille, les arêtes sont triées et traitées directement.
+     */
+    private static final int BASE_SIZE = 32;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Clés aléatoires et numéros des arêtes, réordonnés ensemble.
+     */
+    private final long[] keys;
+    private final int[] ids;
+
+    /**
+     * Tampons pour les partages parallèles.
+     */
+    private final long[] keyBuffer;
+    private final int[] idBuffer;
+    private final boolean[] flags;
+
+    /**
+     * Composantes connexes de la forêt en construction.
+     */
+    private final DisjointSet components;
+
+    /**
+     * Nombre d'arêtes qu'il reste à accepter.
+     */
+    private int remaining;
+
+    public AlgorithmFilterKruskal(IndexedGraph graph, ForkJoinPool pool){
+        this(graph, pool, Rng.create());
+    }
+
+    public AlgorithmFilterKruskal(IndexedGraph graph, ForkJoinPool pool, Rng random){
+        super(graph, random);
+        this.pool = pool;
+        int E = graph.edgeCount();
+        this.keys = new long[E];
+        this.ids = new int[E];
+        this.keyBuffer = new long[E];
+        this.idBuffer = new int[E];
+        this.flags = new boolean[E];
+        this.components = new DisjointSet(graph.vertices());
+    }
+
+    /* -------------------------------------------------
+     *             APPLICATION DE L'ALGORITHME
+     * ------------------------------------------------- */
+
+    /**
+     * Applique l'algorithme Filter-Kruskal pour trouver un arbre couvrant dans
+     * le graphe.
+     */
+    @Override
+    protected void generate() {
+        components.reset(graph.vertices());
+        remaining = graph.vertices() - 1;
+
+        drawKeys();
+        filterKruskal(0, keys.length);
+    }
+
+    /**
+     * Donne une clé aléatoire à chaque arête, en parallèle avec un générateur
+     * indépendant par morceau.
+     */
+    private void drawKeys(){
+        int E = keys.length;
+        int nChunks = ParallelFor.chunkCount(E);
+        Rng[] generators = new Rng[nChunks];
+        for (int c = 0; c < nChunks; c++)
+            generators[c] = random.split();
+
+        ParallelFor.blocks(pool, nChunks, c -> {
+            Rng r = generators[c];
+            int end = Math.min(E, (c + 1) * ParallelFor.CHUNK);
+            for (int i = c * ParallelFor.CHUNK; i < end; i++){
+                ids[i] = i;
+                keys[i] = r.nextLong();
+            }
+        });
+    }
+
+    /**
+     * Traite les arêtes de [lo, hi) par clés croissantes.
+     *
+     * @param lo début de l'intervalle.
+     * @param hi fin (exclue) de l'intervalle.
+     */
+    private void filterKruskal(int lo, int hi){
+        while (remaining > 0 && lo < hi){
+            if (hi - lo <= BASE_SIZE){
+                kruskal(lo, hi);
+                return;
+            }
+
+            // Arêtes légères d'abord.
+            long pivot = keys[lo + random.nextInt(hi - lo)];
+            int mid = partition(lo, hi, i -> keys[i] < pivot, true);
+            filterKruskal(lo, mid);
+
+            // On enlève des arêtes lourdes celles qui fermeraient un cycle.
+            if (remaining > 0)
+                hi = partition(mid, hi, i -> components.root(graph.edgeFrom(ids[i])) != components.root(graph.edgeTo(ids[i])), false);
+            lo = mid;
+        }
+    }
+
+    /**
+     * Trie [lo, hi) par clés croissantes (tri par insertion) puis ajoute les
+     * arêtes une par une sans créer de cycle.
+     */
+    private void kruskal(int lo, int hi){
+        for (int i = lo + 1; i < hi; i++){
+            long key = keys[i];
+            int id = ids[i];
+            int j = i - 1;
+            while (j >= lo && keys[j] > key){
+                keys[j + 1] = keys[j];
+                ids[j + 1] = ids[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            ids[j + 1] = id;
+        }
+
+        for (int i = lo; i < hi && remaining > 0; i++){
+            int id = ids[i];
+            if (components.union(graph.edgeFrom(id), graph.edgeTo(id))){
+                addEdge(id);
+                remaining--;
+            }
+        }
+    }
+
+    /**
+     * Range au début de [lo, hi) les arêtes qui vérifient le test.
+     *
+     * @param lo début de l'intervalle.
+     * @param hi fin (exclue) de l'intervalle.
+     * @param test test sur l'indice d'une arête dans keys et ids.
+     * @param keepRejected si faux, les arêtes qui ne vérifient pas le test sont
+     *                     abandonnées.
+     * @return fin des arêtes qui vérifient le test.
+     */
+    private int partition(int lo, int hi, IntPredicate test, boolean keepRejected){
+        if (hi - lo < SEQUENTIAL_THRESHOLD)
+            return sequentialPartition(lo, hi, test, keepRejected);
+
+        // Évalue le test et compte les arêtes acceptées de chaque bloc.
+        int nBlocks = ParallelFor.blockCount(pool, hi - lo);
+        int[] accepted = new int[nBlocks + 1];
+        ParallelFor.blocks(pool, nBlocks, b -> {
+            int end = ParallelFor.blockStart(b + 1, nBlocks, lo, hi);
+            int count = 0;
+            for (int i = ParallelFor.blockStart(b, nBlocks, lo, hi); i < end; i++){
+                flags[i] = test.test(i);
+                if (flags[i])
+                    count++;
+            }
+            accepted[b + 1] = count;
+        });
+        for (int b = 0; b < nBlocks; b++)
+            accepted[b + 1] += accepted[b];
+        int total = accepted[nBlocks];
+
+        // Recopie chaque bloc à sa place dans les tampons, puis revient.
+        int length = keepRejected ? hi - lo : total;
+        ParallelFor.blocks(pool, nBlocks, b -> {
+            int start = ParallelFor.blockStart(b, nBlocks, lo, hi);
+            int end = ParallelFor.blockStart(b + 1, nBlocks, lo, hi);
+            int a = lo + accepted[b];
+            int r = lo + total + (start - lo - accepted[b]);
+            for (int i = start; i < end; i++){
+                if (flags[i]){
+                    keyBuffer[a] = keys[i];
+                    idBuffer[a++] = ids[i];
+                }
+                else if (keepRejected){
+                    keyBuffer[r] = keys[i];
+                    idBuffer[r++] = ids[i];
+                }
+            }
+        });
+        ParallelFor.blocks(pool, nBlocks, b -> {
+            int start = ParallelFor.blockStart(b, nBlocks, lo, lo + length);
+            int end = ParallelFor.blockStart(b + 1, nBlocks, lo, lo + length);
+            System.arraycopy(keyBuffer, start, keys, start, end - start);
+            System.arraycopy(idBuffer, start, ids, start, end - start);
+        });
+
+        return lo + total;
+    }
+
+    private int sequentialPartition(int lo, int hi, IntPredicate test, boolean keepRejected){
+        int a = lo;
+        for (int i = lo; i < hi; i++){
+            if (test.test(i)){
+                long key = keys[i];
+                int id = ids[i];
+                if (keepRejected){
+                    keys[i] = keys[a];
+                    ids[i] = ids[a];
+                }
+                keys[a] = key;
+                ids[a++] = id;
+            }
+        }
+        return a;
+    }
+
+    /* -------------------------------------------------
+     *                      GETTERS
+     * ------------------------------------------------- */
+
+    @Override
+    public String getTitle() {
+        return "Filter-Kruskal";
+    }
+}
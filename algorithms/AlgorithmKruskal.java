@@ -8,26 +8,33 @@
 
 package algorithms;
 
-import graph.Edge;
-import graph.Graph;
-import graph.SpanningTree;
+import graph.IndexedGraph;
 
-import java.util.*;
+import utils.DisjointSet;
+import utils.Rng;
 
-public class AlgorithmKruskal implements Algorithm {
+
+public class AlgorithmKruskal extends AbstractAlgorithm {
     /**
-     * Graphe où on applique l'algorithme.
+     * Numéros des arêtes, mélangés au fur et à mesure à chaque exécution.
      */
-    private final Graph graph;
+    private final int[] edges;
 
     /**
-     * Arbre couvrant mis à jour dans la méthode algo().
+     * Composantes connexes de la forêt en construction.
      */
-    private SpanningTree spanningTree;
+    private final DisjointSet components;
+
+    public AlgorithmKruskal(IndexedGraph graph){
+        this(graph, Rng.create());
+    }
 
-    public AlgorithmKruskal(Graph graph){
-        this.graph = graph;
-        this.spanningTree = new SpanningTree();
+    public AlgorithmKruskal(IndexedGraph graph, Rng random){
+        super(graph, random);
+        this.edges = new int[graph.edgeCount()];
+        for (int id = 0; id < edges.length; id++)
+            edges[id] = id;
+        this.components = new DisjointSet(graph.vertices());
     }
 
     /* -------------------------------------------------
@@ -36,73 +43,37 @@ public class AlgorithmKruskal implements Algorithm {
 
     /**
      * Applique l'algorithme de Kruskal pour trouver un arbre couvrant dans
-     * le graphe.
-     *
-     * @return un arbre couvrant du graphe.
+     * le graphe. Les arêtes sont tirées dans un ordre aléatoire (mélange de
+     * Fisher-Yates fait au fur et à mesure) et on s'arrête dès que V - 1
+     * arêtes ont été acceptées.
      */
     @Override
-    public SpanningTree algo() {
-        this.graph.clean();
-        this.spanningTree = new SpanningTree();
-        ArrayList<Edge> edges = graph.edges();
-
-        // On mélange toutes les arêtes.
-        Random random = new Random();
-        Collections.shuffle(edges, random);
-
-        // Initialisation du tableau des parents.
-        int[] parent = new int[graph.vertices()];
-        for (int i = 0; i < graph.vertices(); i++)
-            parent[i] = -1;
+    protected void generate() {
+        components.reset(graph.vertices());
 
         // Ajout des arêtes une par une sans créer de cycle.
-        for (Edge e : edges){
-            int from = e.getFrom();
-            int to = e.getTo();
-            if (find(from, parent) != find(to, parent)){
-                e.mark(true);
-                union(from, to, parent);
+        boolean measure = countersEnabled();
+        long depth = 0;
+        long rejected = 0;
+        int remaining = graph.vertices() - 1;
+        for (int i = 0; i < edges.length && remaining > 0; i++){
+            // Tire la prochaine arête parmi celles qui restent.
+            int j = i + random.nextInt(edges.length - i);
+            int id = edges[j];
+            edges[j] = edges[i];
+            edges[i] = id;
+
+            if (measure)
+                depth += components.depth(graph.edgeFrom(id)) + components.depth(graph.edgeTo(id));
+            if (components.union(graph.edgeFrom(id), graph.edgeTo(id))){
+                addEdge(id);
+                remaining--;
             }
+            else
+                rejected++;
         }
-
-        // Récupère l'arbre couvrant.
-        for (Edge e : graph.edges()){
-            if (e.isUsed())
-                spanningTree.add(e);
-        }
-
-        return spanningTree;
-    }
-
-    /**
-     * Union des deux arbres en attachant la racine de l'un à la racine de l'autre.
-     *
-     * @param from sommet d'où l'on vient.
-     * @param to sommet où on va.
-     * @param parent tableau des parents.
-     */
-    private void union(int from, int to, int[] parent){
-        int fromRoot = find(from, parent);
-        int toRoot = find(to, parent);
-
-        if (fromRoot != toRoot)
-            parent[fromRoot] = toRoot;
-    }
-
-    /**
-     * Suit les liens de parenté vers les noeuds pères jusqu'à atteindre la racine.
-     *
-     * @param vertex sommet.
-     * @param parent tableau des parents.
-     * @return la racine de l'arbre où se trouve vertex.
-     */
-    private int find(int vertex, int[] parent){
-        // C'est la racine.
-        if (parent[vertex] == -1)
-            return vertex;
-
-        // Appel récursif.
-        return find(parent[vertex], parent);
+        count(AlgorithmMetrics.Counter.FIND_DEPTH, depth);
+        count(AlgorithmMetrics.Counter.REJECTED_EDGES, rejected);
     }
 
     /* -------------------------------------------------
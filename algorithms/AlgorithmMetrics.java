@@ -0,0 +1,133 @@
+/*
+ * AlgorithmMetrics.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package algorithms;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compteurs cumulés sur les exécutions des algorithmes, à brancher avec
+ * {@link Algorithm#setMetrics}. Pendant une exécution, les algorithmes
+ * comptent dans des variables locales et n'écrivent ici qu'une fois à la fin ;
+ * les compteurs sont des LongAdder, si bien que plusieurs algorithmes (un par
+ * thread) peuvent partager le même AlgorithmMetrics sans se gêner. Sans
+ * AlgorithmMetrics branché, rien n'est compté.
+ */
+public class AlgorithmMetrics {
+
+    /**
+     * Grandeurs mesurées.
+     */
+    public enum Counter {
+        /**
+         * Nombre d'exécutions.
+         */
+        RUNS,
+        /**
+         * Pas des marches aléatoires (Aldous-Broder : temps de recouvrement ;
+         * Wilson : longueur totale des marches).
+         */
+        WALK_STEPS,
+        /**
+         * Pas des marches de Wilson effacés avec les boucles.
+         */
+        ERASED_STEPS,
+        /**
+         * Kruskal : longueur totale des chemins suivis par find().
+         */
+        FIND_DEPTH,
+        /**
+         * Kruskal : arêtes tirées puis rejetées car elles fermaient un cycle.
+         */
+        REJECTED_EDGES
+    }
+
+    static final Counter[] COUNTERS = Counter.values();
+
+    private final LongAdder[] totals;
+
+    public AlgorithmMetrics(){
+        this.totals = new LongAdder[COUNTERS.length];
+        for (int i = 0; i < totals.length; i++)
+            totals[i] = new LongAdder();
+    }
+
+    /**
+     * Ajoute les compteurs d'une exécution.
+     *
+     * @param run valeurs indexées par Counter.ordinal().
+     */
+    void record(long[] run){
+        for (int i = 0; i < run.length; i++)
+            if (run[i] != 0)
+                totals[i].add(run[i]);
+    }
+
+    /**
+     * Remet tous les compteurs à zéro.
+     */
+    public void reset(){
+        for (LongAdder total : totals)
+            total.reset();
+    }
+
+    /**
+     * @return les valeurs actuelles des compteurs. Elles ne sont pas lues
+     * toutes au même instant si des algorithmes tournent en même temps.
+     */
+    public Snapshot snapshot(){
+        long[] values = new long[totals.length];
+        for (int i = 0; i < totals.length; i++)
+            values[i] = totals[i].sum();
+        return new Snapshot(values);
+    }
+
+    /**
+     * Valeurs des compteurs à un instant donné.
+     */
+    public static final class Snapshot {
+        private final long[] values;
+
+        private Snapshot(long[] values){
+            this.values = values;
+        }
+
+        /**
+         * @param counter compteur.
+         * @return valeur cumulée.
+         */
+        public long get(Counter counter){
+            return values[counter.ordinal()];
+        }
+
+        /**
+         * @param counter compteur.
+         * @return valeur moyenne par exécution.
+         */
+        public double perRun(Counter counter){
+            long runs = get(Counter.RUNS);
+            return runs == 0 ? 0 : (double) get(counter) / runs;
+        }
+
+        /**
+         * @return toutes les valeurs, par compteur.
+         */
+        public Map<Counter, Long> toMap(){
+            Map<Counter, Long> map = new EnumMap<>(Counter.class);
+            for (Counter c : COUNTERS)
+                map.put(c, values[c.ordinal()]);
+            return map;
+        }
+
+        @Override
+        public String toString() {
+            return toMap().toString();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * AlgorithmPrim.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package algorithms;
+
+import graph.EdgeWeights;
+import graph.IncidentVisitor;
+import graph.IndexedGraph;
+import utils.IndexedHeap;
+import utils.Rng;
+
+import java.util.BitSet;
+
+/**
+ * Classe qui cherche un arbre couvrant de poids minimum avec l'algorithme de
+ * Prim. Les sommets en attente sont dans un tas 4-aire indexé par numéro de
+ * sommet, avec diminution de clé : aucun objet n'est créé pendant l'exécution.
+ *
+ * Avec des poids donnés, toutes les exécutions renvoient le même arbre de
+ * poids minimum. Avec un générateur, les poids sont tirés de nouveau avant
+ * chaque exécution (dans le même tableau), comme Kruskal mélange de nouveau
+ * ses arêtes : on obtient un arbre aléatoire différent à chaque fois.
+ */
+public class AlgorithmPrim extends AbstractAlgorithm {
+
+    /**
+     * Nombre de fils des noeuds du tas.
+     */
+    private static final int ARITY = 4;
+
+    private final EdgeWeights weights;
+
+    /**
+     * Sommets déjà dans l'arbre.
+     */
+    private final BitSet visited;
+
+    /**
+     * parentEdge[v] : arête la plus légère qui relie v à l'arbre.
+     */
+    private final int[] parentEdge;
+
+    private final IndexedHeap heap;
+
+    /**
+     * Mise à jour d'un voisin, créée une seule fois et donnée à
+     * forEachIncident() pour chaque sommet retiré du tas.
+     */
+    private final IncidentVisitor relax = this::relax;
+
+    /**
+     * @param graph graphe où on applique l'algorithme.
+     * @param weights poids fixés des arêtes.
+     */
+    public AlgorithmPrim(IndexedGraph graph, EdgeWeights weights){
+        this(graph, weights, null);
+    }
+
+    /**
+     * @param graph graphe où on applique l'algorithme.
+     * @param random générateur qui tire des poids uniformes avant chaque
+     *               exécution.
+     */
+    public AlgorithmPrim(IndexedGraph graph, Rng random){
+        this(graph, new EdgeWeights(graph), random);
+    }
+
+    private AlgorithmPrim(IndexedGraph graph, EdgeWeights weights, Rng random){
+        super(graph, random);
+        if (weights.graph() != graph)
+            throw new IllegalArgumentException("les poids ne sont pas ceux de ce graphe");
+        this.weights = weights;
+        this.visited = new BitSet(graph.vertices());
+        this.parentEdge = new int[graph.vertices()];
+        this.heap = new IndexedHeap(graph.vertices(), ARITY);
+    }
+
+    /* -------------------------------------------------
+     *             APPLICATION DE L'ALGORITHME
+     * ------------------------------------------------- */
+
+    /**
+     * Applique l'algorithme de Prim en partant du sommet 0. Si le graphe n'est
+     * pas connexe, on repart d'un sommet non visité et on obtient une forêt
+     * couvrante de poids minimum.
+     */
+    @Override
+    protected void generate() {
+        if (random != null)
+            weights.randomize(random);
+        visited.clear();
+        heap.clear();
+
+        for (int root = 0; root < graph.vertices(); root++){
+            if (visited.get(root))
+                continue;
+
+            parentEdge[root] = -1;
+            heap.insert(root, 0);
+            while (!heap.isEmpty()){
+                int v = heap.pollMin();
+                visited.set(v);
+                if (parentEdge[v] >= 0)
+                    addEdge(parentEdge[v]);
+
+                // Met à jour les voisins qui ne sont pas encore dans l'arbre.
+                graph.forEachIncident(v, relax);
+            }
+        }
+    }
+
+    /**
+     * Rapproche w de l'arbre si l'arête id est plus légère que la meilleure
+     * connue.
+     *
+     * @param w voisin du sommet qui vient d'entrer dans l'arbre.
+     * @param id numéro de l'arête qui les relie.
+     */
+    private void relax(int w, int id){
+        if (visited.get(w))
+            return;
+        double weight = weights.get(id);
+        if (!heap.contains(w)){
+            parentEdge[w] = id;
+            heap.insert(w, weight);
+        }
+        else if (weight < heap.key(w)){
+            parentEdge[w] = id;
+            heap.decreaseKey(w, weight);
+        }
+    }
+
+    /* -------------------------------------------------
+     *                      GETTERS
+     * ------------------------------------------------- */
+
+    @Override
+    public String getTitle() {
+        return "Prim";
+    }
+}
@@ -8,41 +8,46 @@
 
 package algorithms;
 
-import graph.Edge;
-import graph.Graph;
-import graph.SpanningTree;
+import graph.IndexedGraph;
 import org.jetbrains.annotations.NotNull;
+import utils.Rng;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Random;
+import java.util.BitSet;
 
 /**
  * Classe qui cherche un arbre couvrant dans un graphe en appliquant la stratégie
  * de Wilson.
  */
-public class AlgorithmWilson implements Algorithm{
+public class AlgorithmWilson extends AbstractAlgorithm {
 
     /**
-     * Graphe où on applique l'algorithme.
+     * Nombre de sommets dans le graphe.
      */
-    private final Graph graph;
+    private final int nbVertices;
 
     /**
-     * Nombre de sommets dans le graphe.
+     * Sommets déjà dans l'arbre.
      */
-    private final int nbVertices;
+    private final BitSet visited;
 
     /**
-     * Arbre couvrant mis à jour dans la méthode algo()
+     * next[v] est le sommet où la marche aléatoire est allée la dernière fois
+     * qu'elle a quitté v, et nextEdge[v] l'arête empruntée. Réécrire next[v] à
+     * chaque passage efface les boucles sans avoir à les chercher.
      */
-    private SpanningTree spanningTree;
+    private final int[] next;
+    private final int[] nextEdge;
 
-    public AlgorithmWilson(@NotNull Graph g){
-        this.graph = g;
+    public AlgorithmWilson(@NotNull IndexedGraph g){
+        this(g, Rng.create());
+    }
+
+    public AlgorithmWilson(@NotNull IndexedGraph g, @NotNull Rng random){
+        super(g, random);
         this.nbVertices = graph.vertices();
-        this.spanningTree = new SpanningTree();
+        this.visited = new BitSet(nbVertices);
+        this.next = new int[nbVertices];
+        this.nextEdge = new int[nbVertices];
     }
 
     /* -------------------------------------------------
@@ -51,163 +56,58 @@ public class AlgorithmWilson implements Algorithm{
 
     /**
      * Applique l'algorithme de Wilson pour trouver un arbre couvrant dans
-     * le graphe.
-     *
-     * @return un arbre couvrant du graphe.
+     * le graphe : pour chaque sommet qui n'est pas encore dans l'arbre, on
+     * effectue une marche aléatoire jusqu'à tomber sur l'arbre, puis on ajoute
+     * la marche sans ses boucles. Le temps attendu est le temps moyen
+     * d'atteinte de la racine.
      */
     @Override
-    public SpanningTree algo() {
-        graph.clean();
-        spanningTree = new SpanningTree();
-        List<Integer> unvisited = new ArrayList<>();
-        List<Integer> visited = new ArrayList<>();
-
-        // Tous les sommets n'ont pas été visités au début.
-        for (int i = 0; i < nbVertices; i++)
-            unvisited.add(i);
+    protected void generate() {
+        visited.clear();
 
         // On visite le premier sommet.
-        visited.add(unvisited.get(0));
-        unvisited.remove(0);
+        visited.set(0);
 
-        return auxiliaryAlgorithm(unvisited, visited);
-    }
+        long steps = 0;
+        for (int start = 1; start < nbVertices; start++){
+            if (visited.get(start))
+                continue;
 
-    /**
-     * Choisit un sommet non visité aléatoirement puis effectue une marche aléatoire
-     * en partant de ce sommet jusqu'à tomber sur un sommet déjà visité. Elimine les
-     * boucles de la marche aléatoire, ajoute les sommets qui restent aux sommets
-     * visités et marque les arêtes qui restent pour les récupérer dans l'arbre couvrant.
-     * S'il reste encore des sommets non visités, fait un appel récursif.
-     *
-     * @param unvisited liste des sommets non visités.
-     * @param visited liste des sommets visités.
-     * @return un arbre couvrant du graphe.
-     */
-    private SpanningTree auxiliaryAlgorithm(List<Integer> unvisited, List<Integer> visited){
-        // Tous les sommets sont visités.
-        if (unvisited.isEmpty()){
-
-            // Récupère l'arbre couvrant construit.
-            for (Edge e : graph.edges()){
-                if (e.isUsed()){
-                    spanningTree.add(e);
-                }
-            }
-            return spanningTree;
-        }
-        else {
-            // On choisit un sommet non visité aléatoirement.
-            Random random = new Random();
-            int index = random.nextInt(unvisited.size());
-            int start = unvisited.get(index);
-            List<Integer> walk = new ArrayList<>();
-            walk.add(start);
-            walk = randomWalk(start, walk, visited);
-
-            // On elève les boucles de la marche aléatoire.
-            walk = this.cleanedRandomWalk(walk);
-
-            // On ajoute les sommets qui restent aux sommets visités.
-            for (Integer v : walk) {
-                if (!visited.contains(v)) {
-                    visited.add(v);
-                    unvisited.remove(v);
-                }
-            }
+            steps += randomWalk(start);
 
-            // On ajoute toutes les arêtes à l'arbre.
-            for (int k = 0; k < walk.size(); k++) {
-                int vertex = walk.get(k);
-                if (k + 1 < walk.size()) {
-                    for (Edge e : graph.adj(vertex)) {
-                        if (e.other(vertex) == walk.get(k + 1)) {
-                            e.mark(true);
-                        }
-                    }
-                }
+            // On ajoute la marche sans boucles à l'arbre.
+            int v = start;
+            while (!visited.get(v)){
+                visited.set(v);
+                addEdge(nextEdge[v]);
+                v = next[v];
             }
-
-            return auxiliaryAlgorithm(unvisited, visited);
         }
-    }
 
-    /**
-     * @param start sommet de départ.
-     * @param walk marche aléatoire qui part de start.
-     * @param visited liste des sommets déjà visités.
-     * @return une marche aléatoire qui parcourt les sommets jusqu'à ce que start
-     * soit visité.
-     */
-    private List<Integer> randomWalk(int start, List<Integer> walk, List<Integer> visited){
-        if (visited.contains(start)){
-            return walk;
-        }
-        else{
-            ArrayList<Edge> adj = graph.adj(start);
-            Random random = new Random();
-            int nextIndex = random.nextInt(adj.size());
-            Edge nextEdge = adj.get(nextIndex);
-            int nextVertex = nextEdge.other(start);
-
-            walk.add(nextVertex);
-
-            return this.randomWalk(nextVertex, walk, visited);
-        }
+        // Les pas qui ne sont pas devenus des arêtes ont été effacés avec les boucles.
+        count(AlgorithmMetrics.Counter.WALK_STEPS, steps);
+        count(AlgorithmMetrics.Counter.ERASED_STEPS, steps - treeSize());
     }
 
     /**
-     * Fonction récursive qui cherches les doublons. S'il y en a, alors on élimine tout
-     * entre la 1ère et la dernière occurrence de ce doublon. Ensuite on recherche les
-     * doublons qui restent.
-     * S'il n'y en a pas, la marche aléatoire est déjà nettoyée.
+     * Marche aléatoire qui part de start jusqu'à tomber sur un sommet déjà
+     * visité. Seul le dernier départ de chaque sommet est gardé dans next, ce
+     * qui donne directement la marche sans boucles.
      *
-     * @param randomWalk marche aléatoire à nettoyer.
-     * @return marche aléatoire sans boucles.
-     */
-    private List<Integer> cleanedRandomWalk(List<Integer> randomWalk){
-        // On cherche des doublons.
-        int start = -1, end = -1, i = 0, j = randomWalk.size() - 1;
-        boolean foundRepeated = false;
-
-        while ((i < randomWalk.size())) { // croissant
-            int v1 = randomWalk.get(i);
-            while ((j >= 0) && !foundRepeated) { // décroissant
-                if (i != j) {
-                    int v2 = randomWalk.get(j);
-                    if (v1 == v2) {
-                        start = i;
-                        end = j;
-                        foundRepeated = true;
-                    }
-                }
-                j--;
-            }
-            i++;
-            j = randomWalk.size() - 1;
-        }
-
-        // On élimine les boucles de la marche.
-        if (foundRepeated) {
-            cleanDoubles(randomWalk, start, end);
-            return cleanedRandomWalk(randomWalk);
-        }
-        else {
-            return randomWalk;
-        }
-    }
-
-    /**
-     * Enlève tout entre la première apparition et la dernière occurence du sommet.
-     *
-     * @param list à nettoyer.
-     * @param firstAppearance première apparition du doublon.
-     * @param lastAppearance dernière apparition du doublon.
+     * @param start sommet de départ.
+     * @return nombre de pas de la marche.
      */
-    private void cleanDoubles(List<Integer> list, int firstAppearance, int lastAppearance){
-        if ((firstAppearance >= 0) && (lastAppearance <= list.size())) {
-            list.subList(firstAppearance + 1, lastAppearance + 1).clear();
+    private long randomWalk(int start){
+        int v = start;
+        long steps = 0;
+        while (!visited.get(v)){
+            steps++;
+            int nextIndex = random.nextInt(graph.degree(v));
+            next[v] = graph.neighbor(v, nextIndex);
+            nextEdge[v] = graph.incidentEdgeId(v, nextIndex);
+            v = next[v];
         }
+        return steps;
     }
 
     /* -------------------------------------------------
@@ -0,0 +1,54 @@
+/*
+ * GenerationEvent.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package algorithms;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement Java Flight Recorder émis pour chaque arbre couvrant tiré (algo()
+ * ou sample()). Désactivé, il ne coûte rien : voir AbstractAlgorithm.
+ */
+@Name("arbres.Generation")
+@Label("Génération d'un arbre couvrant")
+@Category({"Arbres couvrants"})
+@Description("Tirage d'un arbre couvrant par un algorithme")
+final class GenerationEvent extends Event {
+
+    @Label("Algorithme")
+    String algorithm;
+
+    @Label("Sommets")
+    int vertices;
+
+    @Label("Arêtes")
+    int edges;
+
+    @Label("Graine")
+    @Description("Graine du générateur de l'algorithme (0 s'il n'est pas aléatoire)")
+    long seed;
+
+    @Label("Exécution")
+    @Description("Numéro du tirage depuis la création de l'algorithme : avec la graine, permet de le rejouer")
+    long run;
+
+    @Label("Pas de marche")
+    long walkSteps;
+
+    @Label("Pas effacés")
+    long erasedSteps;
+
+    @Label("Profondeur des find")
+    long findDepth;
+
+    @Label("Arêtes rejetées")
+    long rejectedEdges;
+}
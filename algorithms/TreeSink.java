@@ -0,0 +1,24 @@
+/*
+ * TreeSink.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package algorithms;
+
+/**
+ * Reçoit les arbres couvrants tirés par {@link Algorithm#sample(int, TreeSink)}.
+ */
+@FunctionalInterface
+public interface TreeSink {
+
+    /**
+     * Le tableau est réutilisé pour l'arbre suivant : il faut le copier pour
+     * le garder au-delà de cet appel.
+     *
+     * @param edgeIds numéros des arêtes de l'arbre, dans edgeIds[0 ... size - 1].
+     * @param size nombre d'arêtes de l'arbre.
+     */
+    void accept(int[] edgeIds, int size);
+}
@@ -0,0 +1,36 @@
+/*
+ * BenchmarkMain.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Lance les benchmarks avec le profileur GC (débit d'allocation). Les
+ * arguments sont ceux de JMH, par exemple :
+ *   TreeBenchmark -p algorithm=wilson -p topology=grid100
+ * pour ne lancer qu'une partie des benchmarks, ou -rf json -rff result.json
+ * pour garder les résultats et les comparer d'une version à l'autre.
+ * La compilation et le lancement sont décrits dans benchmarks/README.md.
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(cmd);
+        if (cmd.getIncludes().isEmpty())
+            options.include(BenchmarkMain.class.getPackage().getName() + "\\..*");
+        options.addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * LabyrinthBenchmark.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package benchmarks;
+
+import algorithms.Algorithm;
+import graph.Graph;
+import graph.SpanningTree;
+import labyrinth.Labyrinth;
+import org.openjdk.jmh.annotations.*;
+import utils.Rng;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Temps de calcul sur un labyrinthe déjà construit : distance de l'entrée à
+ * la sortie, nombre de culs-de-sac, et reconstruction du labyrinthe à partir
+ * de l'arbre couvrant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LabyrinthBenchmark {
+
+    @Param({"wilson", "kruskal"})
+    public String algorithm;
+
+    @Param({"10", "30"})
+    public int size;
+
+    @Param({"1", "20201227"})
+    public long seed;
+
+    private SpanningTree tree;
+    private Labyrinth labyrinth;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        Graph g = Graph.Grid(size);
+        tree = Algorithm.create(Algorithm.type.valueOf(algorithm), g, Rng.seeded(seed)).algo();
+        labyrinth = new Labyrinth(tree);
+    }
+
+    @Benchmark
+    public int distanceEntryExit(){
+        return labyrinth.distanceEntryExit();
+    }
+
+    @Benchmark
+    public int nbDeadEnds(){
+        return labyrinth.nbDeadEnds();
+    }
+
+    @Benchmark
+    public Labyrinth toLabyrinth(){
+        labyrinth.toLabyrinth(tree);
+        return labyrinth;
+    }
+}
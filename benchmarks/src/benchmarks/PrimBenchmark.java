@@ -0,0 +1,88 @@
+/*
+ * PrimBenchmark.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package benchmarks;
+
+import algorithms.AlgorithmPrim;
+import graph.Edge;
+import graph.EdgeWeights;
+import graph.Graph;
+import org.openjdk.jmh.annotations.*;
+import utils.Rng;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arbre couvrant de poids minimum avec les mêmes poids : AlgorithmPrim (tas
+ * 4-aire indexé, sans allocation) contre un Prim classique avec une
+ * PriorityQueue&lt;Edge&gt; où chaque arête est ajoutée puis ignorée si ses
+ * deux extrémités sont déjà dans l'arbre.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class PrimBenchmark {
+
+    @Param({"grid100", "grid1000"})
+    public String topology;
+
+    @Param({"1"})
+    public long seed;
+
+    private Graph graph;
+    private EdgeWeights weights;
+    private AlgorithmPrim prim;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        graph = Topologies.create(topology);
+        weights = EdgeWeights.random(graph, Rng.seeded(seed));
+        prim = new AlgorithmPrim(graph, weights);
+    }
+
+    @Benchmark
+    public double indexedHeap(){
+        return weights.weight(prim.algo());
+    }
+
+    @Benchmark
+    public double priorityQueue(){
+        return priorityQueuePrim(graph, weights);
+    }
+
+    /**
+     * Prim avec une file de priorité d'arêtes, en partant du sommet 0.
+     *
+     * @return poids de l'arbre obtenu.
+     */
+    static double priorityQueuePrim(Graph graph, EdgeWeights weights){
+        BitSet visited = new BitSet(graph.vertices());
+        PriorityQueue<Edge> queue = new PriorityQueue<>(Comparator.comparingDouble(e -> weights.get(e.getId())));
+        double total = 0;
+
+        visited.set(0);
+        queue.addAll(graph.adj(0));
+        while (!queue.isEmpty()){
+            Edge e = queue.poll();
+            int v = visited.get(e.getFrom()) ? e.getTo() : e.getFrom();
+            if (visited.get(v))
+                continue;
+            visited.set(v);
+            total += weights.get(e.getId());
+            for (Edge f : graph.adj(v))
+                if (!visited.get(f.other(v)))
+                    queue.add(f);
+        }
+        return total;
+    }
+}
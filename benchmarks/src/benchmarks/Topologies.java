@@ -0,0 +1,28 @@
+/*
+ * Topologies.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package benchmarks;
+
+import graph.Graph;
+
+/**
+ * Graphes utilisés par les benchmarks, désignés par un nom pour pouvoir
+ * servir de @Param : "example" pour Graph.example(), "gridN" pour une grille
+ * N x N.
+ */
+final class Topologies {
+
+    private Topologies(){}
+
+    static Graph create(String name){
+        if (name.equals("example"))
+            return Graph.example();
+        if (name.startsWith("grid"))
+            return Graph.Grid(Integer.parseInt(name.substring("grid".length())));
+        throw new IllegalArgumentException("topologie inconnue : " + name);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * TreeBenchmark.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package benchmarks;
+
+import algorithms.Algorithm;
+import graph.Graph;
+import graph.SpanningTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.Rng;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nombre d'arbres couvrants tirés par seconde, pour chaque algorithme et
+ * chaque graphe. algo() construit un SpanningTree par tirage ; sample() passe
+ * par le chemin sans allocation (à comparer avec gc.alloc.rate.norm du
+ * profileur GC).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TreeBenchmark {
+
+    /**
+     * Nombre de tirages par appel de sample().
+     */
+    private static final int BATCH = 64;
+
+    @Param({"aldousBroder", "wilson", "kruskal", "boruvka", "prim"})
+    public String algorithm;
+
+    @Param({"example", "grid10", "grid100"})
+    public String topology;
+
+    @Param({"1", "20201227"})
+    public long seed;
+
+    private Algorithm algo;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        Graph g = Topologies.create(topology);
+        algo = Algorithm.create(Algorithm.type.valueOf(algorithm), g, Rng.seeded(seed));
+    }
+
+    @Benchmark
+    public SpanningTree algo(){
+        return algo.algo();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void sample(Blackhole bh){
+        algo.sample(BATCH, (edgeIds, size) -> bh.consume(edgeIds[size - 1]));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * CsrGraph.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package graph;
+
+/**
+ * Graphe figé stocké au format CSR (compressed sparse row) : les voisins du
+ * sommet v sont targets[offsets[v]] ... targets[offsets[v+1] - 1], et
+ * edgeIds donne le numéro de l'arête correspondante. Aucun objet n'est créé
+ * par arête. Les extrémités d'une arête ne sont pas stockées à part :
+ * slots[id] est la case de targets qui la range chez son sommet de départ,
+ * edgeTo() la lit dans targets et edgeFrom() retrouve le sommet par
+ * dichotomie dans offsets.
+ *
+ * Il faut 4 octets par sommet et 20 par arête, soit 44 octets par case pour
+ * une grille (176 Mo pour 2000 x 2000). Pour les grandes grilles,
+ * {@link GridGraph} ne stocke rien.
+ */
+public class CsrGraph implements IndexedGraph {
+    private final int V;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] edgeIds;
+    private final int[] slots;
+
+    /**
+     * Construit le graphe à partir de ses arêtes : l'arête numéro id relie
+     * from[id] et to[id]. Les tableaux ne sont pas gardés.
+     *
+     * @param N nombre de sommets.
+     * @param from sommets de départ des arêtes.
+     * @param to sommets d'arrivée des arêtes.
+     */
+    public CsrGraph(int N, int[] from, int[] to){
+        if (from.length != to.length)
+            throw new IllegalArgumentException("from et to n'ont pas la même taille");
+        this.V = N;
+
+        // Compte les degrés.
+        offsets = new int[N + 1];
+        for (int id = 0; id < from.length; id++){
+            offsets[from[id] + 1]++;
+            offsets[to[id] + 1]++;
+        }
+        for (int v = 0; v < N; v++)
+            offsets[v + 1] += offsets[v];
+
+        // Range les arêtes dans l'ordre de leurs numéros.
+        targets = new int[2 * from.length];
+        edgeIds = new int[2 * from.length];
+        slots = new int[from.length];
+        int[] next = new int[N];
+        System.arraycopy(offsets, 0, next, 0, N);
+        for (int id = 0; id < from.length; id++){
+            int v = from[id];
+            int w = to[id];
+            slots[id] = next[v];
+            targets[next[v]] = w;
+            edgeIds[next[v]++] = id;
+            targets[next[w]] = v;
+            edgeIds[next[w]++] = id;
+        }
+    }
+
+    /**
+     * Même numérotation des sommets et des arêtes que Graph.Grid(n), mais
+     * sans passer par des objets Edge.
+     *
+     * @param n taille de la grille
+     * @return une grille n x n
+     */
+    public static CsrGraph grid(int n){
+        int E = 2 * n * (n - 1);
+        int[] from = new int[E];
+        int[] to = new int[E];
+        int id = 0;
+        for (int i = 0 ; i < n; i ++)
+            for (int j = 0 ; j < n; j ++){
+                if (i < n-1){
+                    from[id] = n*i+j;
+                    to[id++] = n*(i+1)+j;
+                }
+                if (j < n-1){
+                    from[id] = n*i+j;
+                    to[id++] = n*i+j+1;
+                }
+            }
+        return new CsrGraph(n * n, from, to);
+    }
+
+    @Override
+    public int vertices() {
+        return V;
+    }
+
+    @Override
+    public int edgeCount() {
+        return slots.length;
+    }
+
+    @Override
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    @Override
+    public int neighbor(int v, int i) {
+        return targets[offsets[v] + i];
+    }
+
+    @Override
+    public int incidentEdgeId(int v, int i) {
+        return edgeIds[offsets[v] + i];
+    }
+
+    @Override
+    public void forEachIncident(int v, IncidentVisitor visitor) {
+        for (int k = offsets[v]; k < offsets[v + 1]; k++)
+            visitor.visit(targets[k], edgeIds[k]);
+    }
+
+    @Override
+    public int edgeFrom(int id) {
+        // Plus grand sommet v tel que offsets[v] <= slot : offsets[v + 1] > slot.
+        int slot = slots[id];
+        int lo = 0;
+        int hi = V - 1;
+        while (lo < hi){
+            int mid = (lo + hi + 1) >>> 1;
+            if (offsets[mid] <= slot)
+                lo = mid;
+            else
+                hi = mid - 1;
+        }
+        return lo;
+    }
+
+    @Override
+    public int edgeTo(int id) {
+        return targets[slots[id]];
+    }
+
+    /**
+     * Les arêtes ne sont pas stockées : chaque appel crée un nouvel objet.
+     *
+     * @param id numéro d'arête.
+     * @return l'arête correspondante.
+     */
+    @Override
+    public Edge edge(int id) {
+        return new Edge(edgeFrom(id), edgeTo(id), id);
+    }
+}
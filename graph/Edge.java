@@ -16,14 +16,18 @@ public class Edge
     private final int to;
 
     /**
-    * Vrai si cette arête est utilisée dans l'arbre couvrant.
-    */
-    boolean used;
+     * Numéro de l'arête dans le graphe, -1 tant qu'elle n'y a pas été ajoutée.
+     */
+    private int id;
 
     public Edge(int x, int y){
+        this(x, y, -1);
+    }
+
+    Edge(int x, int y, int id){
         this.from = x;
         this.to = y;
-        this.used = false;
+        this.id = id;
     }
 
     /**
@@ -35,10 +39,6 @@ public class Edge
 	    if (this.from == v) return this.to; else return this.from;
     }
 
-    public void mark(boolean b){
-        this.used = b;
-    }
-
     public int getFrom() {
         return from;
     }
@@ -47,8 +47,12 @@ public class Edge
         return to;
     }
 
-    public boolean isUsed() {
-        return used;
+    public int getId() {
+        return id;
+    }
+
+    void setId(int id) {
+        this.id = id;
     }
 
     @Override
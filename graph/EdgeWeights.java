@@ -0,0 +1,93 @@
+/*
+ * EdgeWeights.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package graph;
+
+import utils.Rng;
+
+/**
+ * Poids des arêtes d'un graphe, stockés à côté de lui dans un tableau indexé
+ * par numéro d'arête (coût du terrain pour un labyrinthe, coût d'un lien pour
+ * un réseau...).
+ */
+public class EdgeWeights {
+    private final IndexedGraph graph;
+    private final double[] weights;
+
+    /**
+     * Tous les poids valent 0.
+     *
+     * @param graph graphe dont on pondère les arêtes.
+     */
+    public EdgeWeights(IndexedGraph graph){
+        this(graph, new double[graph.edgeCount()]);
+    }
+
+    /**
+     * @param graph graphe dont on pondère les arêtes.
+     * @param weights poids indexés par numéro d'arête (le tableau n'est pas copié).
+     */
+    public EdgeWeights(IndexedGraph graph, double[] weights){
+        if (weights.length != graph.edgeCount())
+            throw new IllegalArgumentException("il faut un poids par arête");
+        this.graph = graph;
+        this.weights = weights;
+    }
+
+    /**
+     * @param graph graphe dont on pondère les arêtes.
+     * @param random générateur utilisé.
+     * @return des poids tirés uniformément dans [0, 1).
+     */
+    public static EdgeWeights random(IndexedGraph graph, Rng random){
+        EdgeWeights w = new EdgeWeights(graph);
+        w.randomize(random);
+        return w;
+    }
+
+    /**
+     * Remplace tous les poids par des poids tirés uniformément dans [0, 1),
+     * sans allouer de nouveau tableau.
+     *
+     * @param random générateur utilisé.
+     */
+    public void randomize(Rng random){
+        for (int id = 0; id < weights.length; id++)
+            weights[id] = random.nextDouble();
+    }
+
+    public IndexedGraph graph(){
+        return graph;
+    }
+
+    /**
+     * @param id numéro d'arête.
+     * @return poids de l'arête.
+     */
+    public double get(int id){
+        return weights[id];
+    }
+
+    /**
+     * @param id numéro d'arête.
+     * @param w nouveau poids.
+     */
+    public void set(int id, double w){
+        weights[id] = w;
+    }
+
+    /**
+     * @param tree arbre couvrant du même graphe.
+     * @return somme des poids des arêtes de l'arbre.
+     */
+    public double weight(SpanningTree tree){
+        double sum = 0;
+        for (int k = 0; k < tree.size(); k++)
+            sum += weights[tree.edgeId(k)];
+        return sum;
+    }
+}
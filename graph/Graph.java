@@ -1,6 +1,8 @@
 package graph;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.io.*;
 import java.awt.*;
 import java.awt.image.*;
@@ -8,8 +10,9 @@ import java.awt.image.*;
 /**
  * Représente un graphe.
  */
-public class Graph{
+public class Graph implements IndexedGraph {
     private final ArrayList<Edge>[] adj;
+    private final ArrayList<Edge> edgeList;
     private final int[] coordX;
     private final int[] coordY;
     private final int V;
@@ -24,6 +27,7 @@ public class Graph{
         adj = (ArrayList<Edge>[]) new ArrayList[N];
         for (int v= 0; v < N; v++)
             adj[v] = new ArrayList<>();
+        edgeList = new ArrayList<>();
         coordX = new int[N];
         coordY = new int[N];
         for (int v= 0; v < N; v++)
@@ -32,11 +36,18 @@ public class Graph{
             coordY[v] = 0;
     }
 
+    @Override
     public int vertices()
     {
         return V;
     }
 
+    @Override
+    public int edgeCount()
+    {
+        return edgeList.size();
+    }
+
     public void setCoordinate(int i, int x, int y){
         coordX[i] = x;
         coordY[i] = y;
@@ -50,36 +61,94 @@ public class Graph{
     public void addEdge(Edge e){
         int v = e.getFrom();
         int w = e.getTo();
+        e.setId(edgeList.size());
+        edgeList.add(e);
         adj[v].add(e);
         adj[w].add(e);
     }
 
     /**
      * @param v sommet.
-     * @return liste des arêtes reliées à un sommet.
+     * @return liste des arêtes reliées à un sommet (en lecture seule, sans copie).
      */
-    public ArrayList<Edge> adj(int v)
+    public List<Edge> adj(int v)
+    {
+        return Collections.unmodifiableList(adj[v]);
+    }
+
+    @Override
+    public int degree(int v)
+    {
+        return adj[v].size();
+    }
+
+    @Override
+    public int neighbor(int v, int i)
+    {
+        return adj[v].get(i).other(v);
+    }
+
+    @Override
+    public int incidentEdgeId(int v, int i)
+    {
+        return adj[v].get(i).getId();
+    }
+
+    @Override
+    public void forEachIncident(int v, IncidentVisitor visitor)
     {
-        return new ArrayList<>(adj[v]);
+        ArrayList<Edge> list = adj[v];
+        for (int i = 0; i < list.size(); i++) {
+            Edge e = list.get(i);
+            visitor.visit(e.other(v), e.getId());
+        }
+    }
+
+    @Override
+    public int edgeFrom(int id)
+    {
+        return edgeList.get(id).getFrom();
+    }
+
+    @Override
+    public int edgeTo(int id)
+    {
+        return edgeList.get(id).getTo();
+    }
+
+    @Override
+    public Edge edge(int id)
+    {
+        return edgeList.get(id);
     }
 
     /**
-     * @return toutes les arêtes du graphe.
+     * @return une copie compacte et figée de ce graphe, avec les mêmes
+     * numéros d'arêtes et le même ordre des voisins.
+     */
+    public CsrGraph toCsr()
+    {
+        int E = edgeList.size();
+        int[] from = new int[E];
+        int[] to = new int[E];
+        for (int id = 0; id < E; id++) {
+            from[id] = edgeList.get(id).getFrom();
+            to[id] = edgeList.get(id).getTo();
+        }
+        return new CsrGraph(V, from, to);
+    }
+
+    /**
+     * @return toutes les arêtes du graphe, dans l'ordre de leurs numéros.
      */
     public ArrayList<Edge> edges(){
-        ArrayList<Edge> list = new ArrayList<>();
-        for (int v = 0; v < V; v++)
-            for (Edge e : adj(v)) {
-                if (e.getFrom() == v)
-                    list.add(e);
-            }
-        return list;
+        return new ArrayList<>(edgeList);
     }
 
     /**
      * @return un petit graphe de graph.Test (G1).
      */
-    static Graph example(){
+    public static Graph example(){
         Graph g = new Graph(4);
         g.setCoordinate(0, 100,100);
         g.setCoordinate(1, 300,300);
@@ -97,7 +166,7 @@ public class Graph{
      * @param n taille de la grille
      * @return une grille n x n
      */
-    static Graph Grid(int n){
+    public static Graph Grid(int n){
         Graph g = new Graph(n * n);
         int i, j;
         for (i = 0 ; i < n; i ++)
@@ -115,6 +184,14 @@ public class Graph{
     }
 
     public BufferedImage toImage(){
+        return toImage(null);
+    }
+
+    /**
+     * @param tree arbre couvrant à dessiner en rouge (ou null).
+     * @return image du graphe.
+     */
+    public BufferedImage toImage(SpanningTree tree){
         BufferedImage image = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
         Graphics2D g2d = image.createGraphics();
         g2d.setBackground(Color.WHITE);
@@ -123,11 +200,11 @@ public class Graph{
         BasicStroke bs = new BasicStroke(2);
         g2d.setStroke(bs);
         // dessine les arêtes
-        for (Edge e: edges())
+        for (Edge e: edgeList)
         {
             int i = e.getFrom();
             int j = e.getTo();
-            if (e.isUsed())
+            if (tree != null && tree.contains(e.getId()))
                 g2d.setColor(Color.RED);
             else
                 g2d.setColor(Color.GRAY);
@@ -157,7 +234,7 @@ public class Graph{
         {
             PrintWriter writer = new PrintWriter(s, "UTF-8");
             writer.println("digraph G{");
-            for (Edge e: edges())
+            for (Edge e: edgeList)
                 writer.println(e.getFrom() + "->" + e.getTo() + ";");
             writer.println("}");
             writer.close();
@@ -166,10 +243,4 @@ public class Graph{
             System.out.println("pb write file");
         }
     }
-
-    public void clean() {
-        for (Edge e : edges()){
-            e.mark(false);
-        }
-    }
 }
@@ -0,0 +1,163 @@
+/*
+ * GridGraph.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package graph;
+
+/**
+ * Grille n x n implicite : rien n'est stocké par sommet ni par arête, les
+ * voisins et les numéros d'arêtes sont calculés à partir de v = n * i + j.
+ * Les numéros des sommets et des arêtes, ainsi que l'ordre des voisins, sont
+ * les mêmes que pour Graph.Grid(n) et CsrGraph.grid(n).
+ *
+ * Les arêtes sont numérotées ligne par ligne : pour une ligne i < n - 1, la
+ * case (i, j) a l'arête verticale i * (2n - 1) + 2j et, si j < n - 1,
+ * l'arête horizontale i * (2n - 1) + 2j + 1. La dernière ligne n'a que des
+ * arêtes horizontales, numérotées (n - 1) * (2n - 1) + j.
+ *
+ * La grille elle-même ne coûte rien, mais chaque algorithme garde des
+ * tableaux de travail par case (mesurés avec E ≈ 2V, arbre en cours compris) :
+ *   - Aldous-Broder : 4,3 octets ;
+ *   - Wilson : 12 octets ;
+ *   - Kruskal : 17 octets (ordre des arêtes en int[E], union-find) ;
+ *   - Borůvka et Prim : 40 octets (poids des arêtes) ;
+ *   - Filter-Kruskal : 59 octets (clés et tampons de partition).
+ * algo() renvoie en plus un SpanningTree de 4,3 octets par case ; sample()
+ * n'en crée pas. Pour 10^8 cases (n = 10 000), il faut donc de 0,4 Go
+ * (Aldous-Broder) à 1,7 Go (Kruskal). Le plus grand n accepté est 32 768
+ * (numéros d'arêtes sur un int), soit environ 10^9 cases.
+ */
+public class GridGraph implements IndexedGraph {
+    private final int n;
+
+    /**
+     * Nombre d'arêtes d'une ligne qui n'est pas la dernière (2n - 1).
+     */
+    private final int rowEdges;
+
+    /**
+     * Numéro de la première arête de la dernière ligne.
+     */
+    private final int lastRow;
+
+    /**
+     * @param n taille de la grille.
+     */
+    public GridGraph(int n){
+        if (n < 1 || 2L * n * (n - 1) > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("taille de grille invalide : " + n);
+        this.n = n;
+        this.rowEdges = 2 * n - 1;
+        this.lastRow = (n - 1) * rowEdges;
+    }
+
+    /**
+     * @return taille de la grille.
+     */
+    public int size(){
+        return n;
+    }
+
+    @Override
+    public int vertices() {
+        return n * n;
+    }
+
+    @Override
+    public int edgeCount() {
+        return 2 * n * (n - 1);
+    }
+
+    @Override
+    public int degree(int v) {
+        int i = v / n;
+        int j = v - i * n;
+        int d = 0;
+        if (i > 0) d++;
+        if (j > 0) d++;
+        if (i < n - 1) d++;
+        if (j < n - 1) d++;
+        return d;
+    }
+
+    /**
+     * Les voisins sont donnés dans l'ordre : haut, gauche, bas, droite.
+     */
+    @Override
+    public int neighbor(int v, int k) {
+        int i = v / n;
+        int j = v - i * n;
+        if (i > 0) { if (k == 0) return v - n; k--; }
+        if (j > 0) { if (k == 0) return v - 1; k--; }
+        if (i < n - 1) { if (k == 0) return v + n; k--; }
+        if (j < n - 1 && k == 0) return v + 1;
+        throw new IndexOutOfBoundsException("sommet " + v + " : pas de voisin d'indice " + k);
+    }
+
+    @Override
+    public int incidentEdgeId(int v, int k) {
+        int i = v / n;
+        int j = v - i * n;
+        if (i > 0) { if (k == 0) return verticalEdge(i - 1, j); k--; }
+        if (j > 0) { if (k == 0) return horizontalEdge(i, j - 1); k--; }
+        if (i < n - 1) { if (k == 0) return verticalEdge(i, j); k--; }
+        if (j < n - 1 && k == 0) return horizontalEdge(i, j);
+        throw new IndexOutOfBoundsException("sommet " + v + " : pas d'arête d'indice " + k);
+    }
+
+    @Override
+    public void forEachIncident(int v, IncidentVisitor visitor) {
+        int i = v / n;
+        int j = v - i * n;
+        if (i > 0) visitor.visit(v - n, verticalEdge(i - 1, j));
+        if (j > 0) visitor.visit(v - 1, horizontalEdge(i, j - 1));
+        if (i < n - 1) visitor.visit(v + n, verticalEdge(i, j));
+        if (j < n - 1) visitor.visit(v + 1, horizontalEdge(i, j));
+    }
+
+    @Override
+    public int edgeFrom(int id) {
+        if (id < lastRow){
+            int i = id / rowEdges;
+            return n * i + (id - i * rowEdges) / 2;
+        }
+        return n * (n - 1) + (id - lastRow);
+    }
+
+    @Override
+    public int edgeTo(int id) {
+        if (id < lastRow && ((id - (id / rowEdges) * rowEdges) & 1) == 0)
+            return edgeFrom(id) + n;
+        return edgeFrom(id) + 1;
+    }
+
+    /**
+     * Les arêtes ne sont pas stockées : chaque appel crée un nouvel objet.
+     *
+     * @param id numéro d'arête.
+     * @return l'arête correspondante.
+     */
+    @Override
+    public Edge edge(int id) {
+        return new Edge(edgeFrom(id), edgeTo(id), id);
+    }
+
+    /**
+     * @return numéro de l'arête entre (i, j) et (i + 1, j).
+     */
+    private int verticalEdge(int i, int j){
+        return i * rowEdges + 2 * j;
+    }
+
+    /**
+     * @return numéro de l'arête entre (i, j) et (i, j + 1).
+     */
+    private int horizontalEdge(int i, int j){
+        if (i < n - 1)
+            return i * rowEdges + 2 * j + 1;
+        return lastRow + j;
+    }
+}
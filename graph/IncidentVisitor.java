@@ -0,0 +1,21 @@
+/*
+ * IncidentVisitor.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package graph;
+
+/**
+ * Action appliquée à chaque arête reliée à un sommet, sans créer de liste.
+ */
+@FunctionalInterface
+public interface IncidentVisitor {
+
+    /**
+     * @param neighbor sommet à l'autre extrémité de l'arête.
+     * @param edgeId numéro de l'arête.
+     */
+    void visit(int neighbor, int edgeId);
+}
@@ -0,0 +1,80 @@
+/*
+ * IndexedGraph.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package graph;
+
+/**
+ * Graphe non orienté dont les sommets sont numérotés de 0 à vertices() - 1
+ * et les arêtes de 0 à edgeCount() - 1. Les algorithmes et le labyrinthe
+ * ne manipulent que des entiers, ce qui permet d'utiliser aussi bien
+ * {@link Graph} qu'une représentation compacte comme {@link CsrGraph}.
+ * Le graphe n'est jamais modifié par les algorithmes : l'arbre couvrant
+ * trouvé est stocké à part dans un {@link SpanningTree}.
+ */
+public interface IndexedGraph {
+
+    /**
+     * @return nombre de sommets.
+     */
+    int vertices();
+
+    /**
+     * @return nombre d'arêtes.
+     */
+    int edgeCount();
+
+    /**
+     * @param v sommet.
+     * @return nombre d'arêtes reliées à v.
+     */
+    int degree(int v);
+
+    /**
+     * @param v sommet.
+     * @param i indice de l'arête parmi celles de v (entre 0 et degree(v) - 1).
+     * @return le sommet à l'autre extrémité de la i-ème arête de v.
+     */
+    int neighbor(int v, int i);
+
+    /**
+     * @param v sommet.
+     * @param i indice de l'arête parmi celles de v (entre 0 et degree(v) - 1).
+     * @return le numéro de la i-ème arête de v.
+     */
+    int incidentEdgeId(int v, int i);
+
+    /**
+     * Parcourt les arêtes reliées à v dans l'ordre des indices 0 ... degree(v) - 1,
+     * sans copier la liste d'adjacence.
+     *
+     * @param v sommet.
+     * @param visitor action appliquée à chaque couple (voisin, numéro d'arête).
+     */
+    default void forEachIncident(int v, IncidentVisitor visitor) {
+        int d = degree(v);
+        for (int i = 0; i < d; i++)
+            visitor.visit(neighbor(v, i), incidentEdgeId(v, i));
+    }
+
+    /**
+     * @param id numéro d'arête.
+     * @return sommet d'où part l'arête.
+     */
+    int edgeFrom(int id);
+
+    /**
+     * @param id numéro d'arête.
+     * @return sommet où arrive l'arête.
+     */
+    int edgeTo(int id);
+
+    /**
+     * @param id numéro d'arête.
+     * @return l'arête correspondante.
+     */
+    Edge edge(int id);
+}
@@ -8,39 +8,133 @@
 
 package graph;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.BitSet;
 
 /**
- * Classe qui représente un arbre couvrant.
+ * Classe qui représente un arbre couvrant. Les arêtes sont désignées par leur
+ * numéro dans le graphe : l'arbre est stocké à côté du graphe, qui n'est jamais
+ * modifié, et plusieurs arbres peuvent donc être construits en même temps sur
+ * le même graphe.
  */
 public class SpanningTree {
-    private final List<Edge> spanningTree;
+    private final IndexedGraph graph;
 
-    public SpanningTree(){
-        this.spanningTree = new ArrayList<>();
+    /**
+     * Appartenance des arêtes à l'arbre, indexée par numéro d'arête.
+     */
+    private final BitSet members;
+
+    /**
+     * Numéros des arêtes de l'arbre, dans l'ordre où elles ont été ajoutées.
+     */
+    private final int[] edgeIds;
+    private int size;
+
+    /**
+     * Hachage 64 bits de l'ensemble des arêtes, tenu à jour par add() (voir
+     * {@link TreeCode#hash}).
+     */
+    private long hash;
+
+    public SpanningTree(IndexedGraph graph){
+        this.graph = graph;
+        this.members = new BitSet(graph.edgeCount());
+        this.edgeIds = new int[Math.max(graph.vertices() - 1, 0)];
+        this.size = 0;
+    }
+
+    /**
+     * Ajoute une arête à l'arbre (sans effet si elle y est déjà).
+     *
+     * @param id numéro d'arête.
+     */
+    public void add(int id){
+        if (!members.get(id)){
+            members.set(id);
+            edgeIds[size++] = id;
+            hash += TreeCode.edgeHash(id);
+        }
+    }
+
+    /**
+     * @param id numéro d'arête.
+     * @return vrai si l'arête est dans l'arbre.
+     */
+    public boolean contains(int id){
+        return members.get(id);
+    }
+
+    /**
+     * @return nombre d'arêtes de l'arbre.
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * @param k indice entre 0 et size() - 1.
+     * @return numéro de la k-ième arête ajoutée.
+     */
+    public int edgeId(int k){
+        return edgeIds[k];
+    }
+
+    /**
+     * @return copie des numéros des arêtes de l'arbre.
+     */
+    public int[] edgeIds(){
+        return Arrays.copyOf(edgeIds, size);
+    }
+
+    public IndexedGraph graph(){
+        return graph;
+    }
+
+    /**
+     * Vide l'arbre en ne touchant qu'aux arêtes qu'il contient (O(V) et non O(E)).
+     */
+    public void clear(){
+        for (int k = 0; k < size; k++)
+            members.clear(edgeIds[k]);
+        size = 0;
+        hash = 0;
     }
 
-    public void add(Edge e){
-        this.spanningTree.add(e);
+    /**
+     * @return code canonique de l'arbre, qui ne dépend pas de l'ordre des
+     * arêtes et ne garde pas de référence vers le graphe.
+     */
+    public TreeCode code(){
+        return TreeCode.of(edgeIds, size);
     }
 
     @Override
     public String toString() {
-        return spanningTree.toString();
+        StringBuilder sb = new StringBuilder("[");
+        for (int k = 0; k < size; k++){
+            if (k > 0)
+                sb.append(", ");
+            int id = edgeIds[k];
+            sb.append("[").append(graph.edgeFrom(id)).append("-").append(graph.edgeTo(id)).append("]");
+        }
+        return sb.append("]").toString();
     }
 
+    /**
+     * Deux arbres sont égaux s'ils contiennent les mêmes arêtes, quel que soit
+     * l'ordre dans lequel elles ont été ajoutées.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof SpanningTree)) return false;
         SpanningTree that = (SpanningTree) o;
-        return Objects.equals(spanningTree, that.spanningTree);
+        return hash == that.hash && size == that.size && members.equals(that.members);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(spanningTree);
+        return (int) (hash ^ (hash >>> 32));
     }
 }
@@ -9,26 +9,28 @@
 package graph;
 
 import algorithms.Algorithm;
-import algorithms.AlgorithmAldousBroder;
-import algorithms.AlgorithmKruskal;
-import algorithms.AlgorithmWilson;
 import com.sun.xml.internal.ws.policy.privateutil.PolicyUtils;
 import labyrinth.Labyrinth;
 import utils.Histogram;
+import utils.MonteCarlo;
+import utils.Rng;
+import utils.SpaceSaving;
+import utils.TreeSketch;
+import utils.UniformityTest;
 import java.io.*;
 import java.util.*;
 
 public class Test{
 
 	/**
-	 * Suppose que G est une grille de taille size x size et
+	 * Suppose que le graphe de st est une grille de taille size x size et
 	 * crée un .tex qui contient le labyrinthe correspondant.
 	 *
-	 * @param G graphe
+	 * @param st arbre couvrant de la grille
 	 * @param size taille
 	 * @param file fichier où le labyrinthe est écrit.
 	 */
-    public static void printLaby(Graph G, int size, String file){
+    public static void printLaby(SpanningTree st, int size, String file){
     {
 		try
 			{
@@ -82,14 +84,16 @@ public class Test{
 				}
 
 
-			for (Edge e: G.edges())
+			IndexedGraph G = st.graph();
+			for (int id = 0; id < G.edgeCount(); id++)
 				{
-				int i = e.getFrom() % size;
-				int j = e.getFrom() / size;
+				int from = G.edgeFrom(id);
+				int i = from % size;
+				int j = from / size;
 				writer.println(String.format(Locale.US, "\\begin{scope}[xshift=%dcm, yshift=%dcm]", i , j));
-				if (e.getTo() == e.getFrom() + size){
+				if (G.edgeTo(id) == from + size){
 					/* arête verticale */
-					if (!e.used)
+					if (!st.contains(id))
 					{
 						writer.println("\\draw (0.4,0.9) -- (0.6,0.9);");
 						writer.println("\\draw (0.4,1.1) -- (0.6,1.1);");
@@ -103,7 +107,7 @@ public class Test{
 				else{
 					/* arête horizontale */
 
-					if (!e.used)
+					if (!st.contains(id))
 					{
 						writer.println("\\draw (0.9,0.4) -- (0.9,0.6);");
 						writer.println("\\draw (1.1,0.4) -- (1.1,0.6);");
@@ -139,20 +143,33 @@ public class Test{
 		oneTime(g, Algorithm.type.wilson);
 		oneTime(g, Algorithm.type.aldousBroder);
 		oneTime(g, Algorithm.type.kruskal);
+		oneTime(g, Algorithm.type.boruvka);
+		oneTime(g, Algorithm.type.prim);
 
 		// Tests un million de fois.
 		//oneMillionTimes(g1, Algorithm.type.aldousBroder);
 		//oneMillionTimes(g1, Algorithm.type.wilson);
 		//oneMillionTimes(g1, Algorithm.type.kruskal);
+		//oneMillionTimes(g1, Algorithm.type.boruvka);
+
+		// Tests un million de fois en mémoire constante, sur un grand graphe.
+		//oneMillionTimesSketch(Graph.Grid(20), Algorithm.type.wilson);
+
+		// Tests d'uniformité.
+		//uniformity(Graph.Grid(3), Algorithm.type.wilson);
+		//uniformity(Graph.Grid(3), Algorithm.type.kruskal);
 
 		// Labyrinthes
 		oneTimeLabyrinth(Algorithm.type.kruskal, size);
 		oneTimeLabyrinth(Algorithm.type.wilson, size);
 		oneTimeLabyrinth(Algorithm.type.aldousBroder, size);
+		oneTimeLabyrinth(Algorithm.type.boruvka, size);
+		oneTimeLabyrinth(Algorithm.type.prim, size);
 
 		//thousandLabyrinths(Algorithm.type.kruskal);
 		//thousandLabyrinths(Algorithm.type.wilson);
 		//thousandLabyrinths(Algorithm.type.aldousBroder);
+		//thousandLabyrinths(Algorithm.type.boruvka);
     }
 
 	/* -------------------------------------------------
@@ -167,13 +184,7 @@ public class Test{
 	 */
     private static void oneTime(Graph g, Algorithm.type type){
     	// Lance l'algo 1 fois
-		Algorithm algo;
-		if (type.equals(Algorithm.type.aldousBroder))
-			algo = new AlgorithmAldousBroder(g);
-		else if (type.equals(Algorithm.type.wilson))
-			algo = new AlgorithmWilson(g);
-		else
-			algo = new AlgorithmKruskal(g);
+		Algorithm algo = Algorithm.create(type, g);
 
 		System.out.println("\n\t"+algo.getTitle());
 		SpanningTree st = algo.algo();
@@ -181,56 +192,68 @@ public class Test{
 
 		// Affiche le graphe.
 		Display d = new Display("Graphe avec "+algo.getTitle());
-		d.setImage(g.toImage());
+		d.setImage(g.toImage(st));
 	}
 
 	/**
-	 * Lance l'algorithme un million de fois et compte le nombre d'apparitions
-	 * de chaque arbre couvrant. Ensuite les transforme en probabilités, avec
-	 * des pourcentages.
+	 * Lance l'algorithme un million de fois, sur tous les coeurs, et compte
+	 * le nombre d'apparitions de chaque arbre couvrant. Ensuite les transforme
+	 * en probabilités, avec des pourcentages.
 	 * Finalement, affiche un histogramme avec les statistiques.
 	 *
 	 * @param g graphe.
 	 */
 	private static void oneMillionTimes(Graph g, Algorithm.type type){
-		Algorithm algo;
-		if (type.equals(Algorithm.type.aldousBroder))
-			algo = new AlgorithmAldousBroder(g);
-		else if (type.equals(Algorithm.type.wilson))
-			algo = new AlgorithmWilson(g);
-		else
-			algo = new AlgorithmKruskal(g);
-
 		// Compte le nombre d'apparitions de chaque arbre couvrant
-		Map<SpanningTree, Double> nbApparition = new HashMap<>();
-		for (int i = 1; i <= 1000000; i++){
-			SpanningTree st = algo.algo();
-
-			if (!nbApparition.containsKey(st)) {
-				double p = 1.0;
-				nbApparition.put(st, p);
-			}
-			else{
-				double p = nbApparition.get(st);
-				p += 1.0;
-				nbApparition.put(st, p);
-			}
-		}
+		int threads = Runtime.getRuntime().availableProcessors();
+		MonteCarlo monteCarlo = new MonteCarlo(g, type, threads, Rng.create());
+		Map<TreeCode, Long> nbApparition = monteCarlo.run(1000000);
 
 		// Transforme le nombre d'apparitions en probabilités sous forme de pourcentage
-		nbApparition.forEach((s, nbA) -> {
-			double p = nbA/1000000;
-			p *= 100;
-			nbApparition.put(s, p);
-		});
+		Map<TreeCode, Double> probabilities = MonteCarlo.percentages(nbApparition);
 
 		// Affiche l'histogramme.
-		Display d = new Display("Histogramme "+algo.getTitle());
-		Histogram histogram = new Histogram(nbApparition);
+		Display d = new Display("Histogramme "+Algorithm.create(type, g).getTitle());
+		Histogram histogram = new Histogram(probabilities);
 		d.setImage(histogram.toImage());
 		System.out.println(histogram.toString());
 	}
 
+	/**
+	 * Comme oneMillionTimes, mais en mémoire constante, pour les graphes qui ont
+	 * trop d'arbres couvrants pour les compter un par un : estime le nombre
+	 * d'arbres distincts, affiche les arbres les plus fréquents et la fréquence
+	 * d'apparition de chaque arête.
+	 *
+	 * @param g graphe.
+	 * @param type algorithme à appliquer.
+	 */
+	private static void oneMillionTimesSketch(Graph g, Algorithm.type type){
+		int threads = Runtime.getRuntime().availableProcessors();
+		MonteCarlo monteCarlo = new MonteCarlo(g, type, threads, Rng.create());
+		TreeSketch sketch = monteCarlo.sketch(1000000, 14, 10);
+
+		System.out.println("Arbres distincts (estimation) : "+Math.round(sketch.distinctEstimate()));
+		for (SpaceSaving.Entry e : sketch.top(10))
+			System.out.println(e);
+		for (int id = 0; id < g.edgeCount(); id++)
+			System.out.println(g.edge(id)+" : "+Math.round(sketch.edgeFrequency(id)*10000)/100d+" %");
+	}
+
+	/**
+	 * Vérifie avec un test du khi-deux que l'algorithme tire les arbres
+	 * couvrants uniformément, en s'arrêtant dès que l'uniformité est rejetée
+	 * ou acceptée.
+	 *
+	 * @param g graphe (petit : le nombre d'arbres couvrants est calculé exactement).
+	 * @param type algorithme à tester.
+	 */
+	private static void uniformity(Graph g, Algorithm.type type){
+		UniformityTest test = new UniformityTest(g, 0.01);
+		Algorithm algo = Algorithm.create(type, g);
+		System.out.println(algo.getTitle()+" : "+test.trees()+" arbres couvrants, "+test.run(algo, 1000000));
+	}
+
 	/* -------------------------------------------------
  *               		 	LABYRINTHES
 	 * ------------------------------------------------- */
@@ -247,23 +270,17 @@ public class Test{
 		Graph g = Graph.Grid(size);
 
 		// Lance l'algo 1 fois
-		Algorithm algo;
-		if (type.equals(Algorithm.type.aldousBroder))
-			algo = new AlgorithmAldousBroder(g);
-		else if (type.equals(Algorithm.type.wilson))
-			algo = new AlgorithmWilson(g);
-		else
-			algo = new AlgorithmKruskal(g);
+		Algorithm algo = Algorithm.create(type, g);
 
 		System.out.println("\n\t"+algo.getTitle());
 		SpanningTree st = algo.algo();
 
 		// Affiche le graphe.
 		Display d = new Display("Labyrinthe avec "+algo.getTitle());
-		d.setImage(g.toImage());
+		d.setImage(g.toImage(st));
 
 		// Création du labyrinthe associé.
-		Labyrinth labyrinth = new Labyrinth(g);
+		Labyrinth labyrinth = new Labyrinth(st);
 		System.out.println("Distance : "+labyrinth.distanceEntryExit());
 		System.out.println("Culs-secs : "+labyrinth.nbDeadEnds());
 
@@ -271,7 +288,7 @@ public class Test{
 		/*System.out.println("appuyez sur une touche");
 		new Scanner(System.in).nextLine();
 		d.close();
-		printLaby(g, size, "toto.tex");*/
+		printLaby(st, size, "toto.tex");*/
 	}
 
 	/**
@@ -283,22 +300,16 @@ public class Test{
 	 */
 	private static void thousandLabyrinths(Algorithm.type type){
 		Graph g = Graph.Grid(10);
-		Labyrinth labyrinth = new Labyrinth(g);
 
-		Algorithm algo;
-		if (type.equals(Algorithm.type.aldousBroder))
-			algo = new AlgorithmAldousBroder(g);
-		else if (type.equals(Algorithm.type.wilson))
-			algo = new AlgorithmWilson(g);
-		else
-			algo = new AlgorithmKruskal(g);
+		Algorithm algo = Algorithm.create(type, g);
 
 		// Lance 1000 labyrinthes et garde distances et culs de sac.
 		List<Integer> distances = new ArrayList<>();
 		List<Integer> deadEnds = new ArrayList<>();
+		Labyrinth labyrinth = new Labyrinth(algo.algo());
 		for (int i = 0; i < 1000; i++){
-			SpanningTree st = algo.algo();
-			labyrinth.toLabyrinth();
+			if (i > 0)
+				labyrinth.toLabyrinth(algo.algo());
 
 			distances.add(labyrinth.distanceEntryExit());
 			deadEnds.add(labyrinth.nbDeadEnds());
@@ -0,0 +1,156 @@
+/*
+ * TreeCode.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Code canonique et figé d'un arbre couvrant : l'ensemble de ses numéros
+ * d'arêtes sous forme de bits, plus un hachage sur 64 bits calculé une fois
+ * pour toutes. Le code ne dépend ni de l'ordre des arêtes ni des objets
+ * Edge : deux tirages du même arbre ont toujours le même code, et comparer
+ * deux codes coûte en général une seule comparaison de hachages.
+ */
+public final class TreeCode {
+    private final long[] words;
+    private final int size;
+    private final long hash;
+
+    private TreeCode(long[] words, int size, long hash){
+        this.words = words;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * @param edgeIds numéros des arêtes, dans edgeIds[0 ... size - 1].
+     * @param size nombre d'arêtes.
+     * @return le code de cet ensemble d'arêtes.
+     */
+    public static TreeCode of(int[] edgeIds, int size){
+        int max = -1;
+        for (int k = 0; k < size; k++)
+            max = Math.max(max, edgeIds[k]);
+        long[] words = new long[(max >> 6) + 1];
+        for (int k = 0; k < size; k++)
+            words[edgeIds[k] >> 6] |= 1L << edgeIds[k];
+        return new TreeCode(words, size, hash(edgeIds, size));
+    }
+
+    /**
+     * Hachage d'une arête : les bits de son numéro bien mélangés (splitmix64).
+     *
+     * @param id numéro d'arête.
+     * @return hachage sur 64 bits.
+     */
+    public static long edgeHash(int id){
+        long z = (id + 1) * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Le hachage d'un ensemble est la somme des hachages de ses arêtes : il ne
+     * dépend pas de l'ordre et se calcule sans rien allouer.
+     *
+     * @param edgeIds numéros des arêtes, dans edgeIds[0 ... size - 1].
+     * @param size nombre d'arêtes.
+     * @return hachage sur 64 bits de l'ensemble.
+     */
+    public static long hash(int[] edgeIds, int size){
+        long h = 0;
+        for (int k = 0; k < size; k++)
+            h += edgeHash(edgeIds[k]);
+        return h;
+    }
+
+    /**
+     * @return hachage sur 64 bits.
+     */
+    public long hash64(){
+        return hash;
+    }
+
+    /**
+     * @return nombre d'arêtes.
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * @param id numéro d'arête.
+     * @return vrai si l'arête fait partie de l'arbre.
+     */
+    public boolean contains(int id){
+        int w = id >> 6;
+        return w < words.length && (words[w] & (1L << id)) != 0;
+    }
+
+    /**
+     * Compare ce code à un ensemble d'arêtes sans construire de code.
+     *
+     * @param hash hachage de l'ensemble, calculé avec hash().
+     * @param edgeIds numéros des arêtes, dans edgeIds[0 ... size - 1].
+     * @param size nombre d'arêtes.
+     * @return vrai si l'ensemble est celui de ce code.
+     */
+    public boolean matches(long hash, int[] edgeIds, int size){
+        if (hash != this.hash || size != this.size)
+            return false;
+        for (int k = 0; k < size; k++)
+            if (!contains(edgeIds[k]))
+                return false;
+        return true;
+    }
+
+    /**
+     * @param graph graphe de l'arbre.
+     * @return l'arbre couvrant correspondant.
+     */
+    public SpanningTree toTree(IndexedGraph graph){
+        SpanningTree tree = new SpanningTree(graph);
+        for (int w = 0; w < words.length; w++){
+            long bits = words[w];
+            while (bits != 0){
+                tree.add((w << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        return tree;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TreeCode)) return false;
+        TreeCode that = (TreeCode) o;
+        return hash == that.hash && size == that.size && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int w = 0; w < words.length; w++){
+            long bits = words[w];
+            while (bits != 0){
+                if (sb.length() > 1)
+                    sb.append(", ");
+                sb.append((w << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        return sb.append("}").toString();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * CorridorGraph.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package labyrinth;
+
+import graph.IndexedGraph;
+import graph.SpanningTree;
+
+/**
+ * Couloirs d'un labyrinthe construit sur un graphe quelconque, au format CSR
+ * (comme graph.CsrGraph) : les voisins de v sont
+ * targets[offsets[v]] ... targets[offsets[v + 1] - 1].
+ */
+public class CorridorGraph implements Maze {
+    private final int[] offsets;
+    private final int[] targets;
+
+    /**
+     * @param tree arbre couvrant : ses arêtes sont les couloirs.
+     */
+    public CorridorGraph(SpanningTree tree){
+        IndexedGraph graph = tree.graph();
+        int V = graph.vertices();
+
+        // Compte les couloirs de chaque case.
+        offsets = new int[V + 1];
+        for (int k = 0; k < tree.size(); k++){
+            int id = tree.edgeId(k);
+            offsets[graph.edgeFrom(id) + 1]++;
+            offsets[graph.edgeTo(id) + 1]++;
+        }
+        for (int v = 0; v < V; v++)
+            offsets[v + 1] += offsets[v];
+
+        targets = new int[2 * tree.size()];
+        int[] next = new int[V];
+        System.arraycopy(offsets, 0, next, 0, V);
+        for (int k = 0; k < tree.size(); k++){
+            int id = tree.edgeId(k);
+            int v = graph.edgeFrom(id);
+            int w = graph.edgeTo(id);
+            targets[next[v]++] = w;
+            targets[next[w]++] = v;
+        }
+    }
+
+    @Override
+    public int cells() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    @Override
+    public int neighbor(int v, int k) {
+        return targets[offsets[v] + k];
+    }
+
+    @Override
+    public int neighbors(int v, int[] out) {
+        int d = offsets[v + 1] - offsets[v];
+        System.arraycopy(targets, offsets[v], out, 0, d);
+        return d;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * DeadEndAnalysis.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package labyrinth;
+
+import java.util.Arrays;
+
+/**
+ * Culs-de-sac d'un labyrinthe. Les couloirs formant un arbre, un cul-de-sac
+ * est simplement une case d'où ne part qu'un seul couloir ; l'entrée et la
+ * sortie, qui donnent sur l'extérieur, ne sont pas des culs-de-sac.
+ *
+ * La branche d'un cul-de-sac est le couloir sans embranchement qui y mène :
+ * on remonte depuis le cul-de-sac tant que les cases n'ont que deux couloirs,
+ * jusqu'à un carrefour, l'entrée ou la sortie. Les branches ne se recouvrent
+ * pas, si bien que toute l'analyse est en O(V), sans récursion.
+ */
+public class DeadEndAnalysis {
+    private final int[] deadEnds;
+    private final int[] branchLengths;
+    private final long totalBranchLength;
+
+    /**
+     * @param maze labyrinthe.
+     * @param entry case d'entrée.
+     * @param exit case de sortie.
+     */
+    public DeadEndAnalysis(Maze maze, int entry, int exit){
+        int n = maze.cells();
+        int[] ends = new int[n];
+        int[] lengths = new int[n];
+        int count = 0;
+        long total = 0;
+
+        for (int v = 0; v < n; v++){
+            if (maze.degree(v) != 1 || v == entry || v == exit)
+                continue;
+
+            // Remonte la branche jusqu'au premier carrefour.
+            int previous = v;
+            int current = maze.neighbor(v, 0);
+            int length = 1;
+            while (maze.degree(current) == 2 && current != entry && current != exit){
+                int next = maze.neighbor(current, 0);
+                if (next == previous)
+                    next = maze.neighbor(current, 1);
+                previous = current;
+                current = next;
+                length++;
+            }
+
+            ends[count] = v;
+            lengths[count++] = length;
+            total += length;
+        }
+
+        this.deadEnds = Arrays.copyOf(ends, count);
+        this.branchLengths = Arrays.copyOf(lengths, count);
+        this.totalBranchLength = total;
+    }
+
+    /**
+     * @return nombre de culs-de-sac.
+     */
+    public int count(){
+        return deadEnds.length;
+    }
+
+    /**
+     * @return les culs-de-sac, par numéro de case croissant.
+     */
+    public int[] deadEnds(){
+        return deadEnds.clone();
+    }
+
+    /**
+     * @return longueur (en couloirs) de la branche de chaque cul-de-sac, dans
+     * le même ordre que deadEnds().
+     */
+    public int[] branchLengths(){
+        return branchLengths.clone();
+    }
+
+    /**
+     * @return somme des longueurs des branches.
+     */
+    public long totalBranchLength(){
+        return totalBranchLength;
+    }
+
+    /**
+     * @return longueur de la plus longue branche (0 s'il n'y a pas de
+     * cul-de-sac).
+     */
+    public int maxBranchLength(){
+        int max = 0;
+        for (int length : branchLengths)
+            max = Math.max(max, length);
+        return max;
+    }
+}
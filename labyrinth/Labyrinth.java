@@ -8,24 +8,48 @@
 
 package labyrinth;
 
-import graph.Edge;
-import graph.Graph;
-
-import java.util.*;
-
-import static java.util.Collections.*;
+import graph.IndexedGraph;
+import graph.SpanningTree;
 
 public class Labyrinth {
-    private final Graph graph;
+    private final IndexedGraph graph;
     private int entry;
     private int exit;
-    private List<Edge>[] adjOnlyCorridors;
-    private List<Integer> deadEnds;
 
-    public Labyrinth(Graph g){
-        this.graph = g;
+    /**
+     * Vrai si le graphe est une grille : les couloirs sont alors stockés sur
+     * deux bits par case ({@link WallGrid}), sinon au format CSR
+     * ({@link CorridorGraph}).
+     */
+    private final boolean grid;
+
+    /**
+     * Couloirs du labyrinthe, et recherche de plus courts chemins dans ces
+     * couloirs (créée à la première recherche).
+     */
+    private Maze maze;
+    private MazeSolver solver;
+
+    /**
+     * Index des distances entre cases, construit à la première question.
+     */
+    private LcaIndex index;
+
+    /**
+     * Diamètre, centre et excentricités, calculés à la première question.
+     */
+    private TreeShape shape;
+
+    /**
+     * Nombre de couloirs (arêtes de l'arbre couvrant).
+     */
+    private int corridors;
+
+    public Labyrinth(SpanningTree tree){
+        this.graph = tree.graph();
+        this.grid = WallGrid.isGrid(graph);
 
-        this.toLabyrinth();
+        this.toLabyrinth(tree);
     }
 
     /* -------------------------------------------------
@@ -33,21 +57,23 @@ public class Labyrinth {
      * ------------------------------------------------- */
 
     /**
-     * Transforme le graphe en labyrinthe.
+     * Transforme le graphe en labyrinthe dont les couloirs sont les arêtes
+     * de l'arbre couvrant.
+     *
+     * @param tree arbre couvrant du graphe de ce labyrinthe.
      */
-    public void toLabyrinth(){
-        this.deadEnds = new ArrayList<>();
-        this.adjOnlyCorridors = (ArrayList<Edge>[]) new ArrayList[graph.vertices()];
-        for (int v= 0; v < graph.vertices(); v++)
-            adjOnlyCorridors[v] = new ArrayList<>();
+    public void toLabyrinth(SpanningTree tree){
+        if (tree.graph() != graph)
+            throw new IllegalArgumentException("l'arbre couvrant n'est pas sur le graphe du labyrinthe");
+        LabyrinthEvent event = new LabyrinthEvent.Conversion();
+        event.begin();
 
+        this.corridors = tree.size();
         // Récupère les couloirs.
-        for (int v= 0; v < graph.vertices(); v++) {
-            for (Edge e : graph.adj(v)){
-                if (e.isUsed())
-                    adjOnlyCorridors[v].add(e);
-            }
-        }
+        this.maze = grid ? new WallGrid(tree) : new CorridorGraph(tree);
+        this.solver = null;
+        this.index = null;
+        this.shape = null;
 
         // Cherche entrée et sortie.
         int size = (int) Math.sqrt(graph.vertices()); // car Grid fait un new Graph(n * n)
@@ -55,6 +81,7 @@ public class Labyrinth {
         this.entry = size - 1;
         this.exit = size * (size - 1);
 
+        commit(event, corridors);
     }
 
     /* -------------------------------------------------
@@ -62,106 +89,118 @@ public class Labyrinth {
      * ------------------------------------------------- */
 
     /**
-     * @return distance entre l'entrée et la sortie.
+     * @return distance entre l'entrée et la sortie (parcours en largeur).
      */
     public int distanceEntryExit(){
-        List<Integer> path = crossLabyrinth();
-        return (path.size() - 1);
+        LabyrinthEvent event = new LabyrinthEvent.Solve();
+        event.begin();
+        int distance = solver().distance(entry, exit);
+        commit(event, distance);
+        return distance;
     }
 
     /**
-     * Applique l'algorithme de Dijkstra puis construit le chemin à partir
-     * de la map des prédécesseurs.
+     * Comme distanceEntryExit(), mais avec deux parcours en largeur partis de
+     * l'entrée et de la sortie : moins de cases visitées quand le chemin est
+     * court par rapport à la taille du labyrinthe.
      *
-     * @return un chemin entre l'entrée et la sortie.
-     */
-    private List<Integer> crossLabyrinth(){
-        Map<Integer, Integer> predecessors = dijkstra();
-        List<Integer> path = new ArrayList<>();
-
-        // Retrouve le chemin.
-        int v = exit;
-        while (v != entry){
-            int pred = predecessors.get(v);
-            path.add(v);
-            v = pred;
-        }
-        path.add(entry);
-        Collections.reverse(path);
+     * @return distance entre l'entrée et la sortie.
+     */
+    public int distanceEntryExitBidirectional(){
+        LabyrinthEvent event = new LabyrinthEvent.Solve();
+        event.begin();
+        int distance = solver().distanceBidirectional(entry, exit);
+        commit(event, distance);
+        return distance;
+    }
 
-        return path;
+    /**
+     * @return les cases du chemin de l'entrée à la sortie.
+     */
+    public int[] pathEntryExit(){
+        solver().distance(entry, exit);
+        return solver().lastPath();
     }
 
     /**
-     * Fonction itérative qui cherche le plus court chemin entre l'entrée et la sortie
-     * du labyrinthe avec l'algorithme de Dijkstra.
-     *
-     * @return tableau des prédécesseurs.
-     */
-    private Map<Integer, Integer> dijkstra(){
-        List<Integer> visited = new ArrayList<>();
-        Map<Integer, Integer> distances = new HashMap<>();
-        Map<Integer, Integer> predecessors = new HashMap<>();
-        boolean arrived = false;
-        initialize(distances, predecessors);
-
-        while (!arrived){
-            int actualVertex = minVertex(visited, distances);
-
-            if (actualVertex == exit)
-                arrived = true;
-            else{
-                for (Edge e : adjOnlyCorridors[actualVertex]){
-                    int neighbor = e.other(actualVertex);
-                    int newDistance = distances.get(actualVertex) + 1;
-                    if (newDistance < distances.get(neighbor)){
-                        distances.replace(neighbor, newDistance);
-                        predecessors.replace(neighbor, actualVertex);
-                    }
-                }
-                visited.add(actualVertex);
-            }
-        }
+     * @return recherche de plus courts chemins, créée à la première
+     * utilisation : un labyrinthe qu'on ne fait que garder en mémoire ne
+     * coûte que ses couloirs.
+     */
+    private MazeSolver solver(){
+        if (solver == null)
+            solver = new MazeSolver(maze);
+        return solver;
+    }
 
-        return predecessors;
+    /**
+     * @return couloirs du labyrinthe.
+     */
+    public Maze maze(){
+        return maze;
     }
 
     /**
-     * Initialise toutes les distances des cases du labyrinthe à linfini, sauf
-     * l'entrée (où on est). Initialise aussi les prédecesseurs à -1.
-     *
-     * @param distances map des distances.
-     * @param predecessors map des prédécesseurs.
-     */
-    private void initialize(Map<Integer, Integer> distances, Map<Integer, Integer> predecessors){
-        for (int v = 0; v < graph.vertices(); v++){
-            if (v == entry)
-                distances.put(v, 0);
-            else
-                distances.put(v, Integer.MAX_VALUE);
-            predecessors.put(v, -1);
-        }
+     * @return dessin du labyrinthe en texte (voir {@link WallGrid#toText()}),
+     * pour un labyrinthe construit sur une grille.
+     */
+    public String toText(){
+        if (!grid)
+            throw new UnsupportedOperationException("seul un labyrinthe sur une grille se dessine en texte");
+        return ((WallGrid) maze).toText();
     }
 
     /**
-     * @param visited liste des sommets déjà visités.
-     * @param distances liste des distances.
-     * @return sommet ayant la plus petite distance actuelle qui n'a pas encore été
-     * visitée.
+     * @param a case.
+     * @param b case.
+     * @return distance entre les deux cases, en temps constant une fois
+     * l'index construit.
      */
-    private int minVertex(List<Integer> visited, Map<Integer, Integer> distances){
-        int min = Integer.MAX_VALUE;
-        int vertex = -1;
+    public int distance(int a, int b){
+        return index().distance(a, b);
+    }
 
-        for (int v = 0; v < graph.vertices(); v++){
-            int distance = distances.get(v);
-            if ((!visited.contains(v)) && (distance <= min)){
-                min = distance;
-                vertex = v;
-            }
-        }
+    /**
+     * @return index des distances et des chemins entre cases quelconques,
+     * enraciné à l'entrée (construit une fois par labyrinthe, en O(V)).
+     */
+    public LcaIndex index(){
+        if (index == null)
+            index = new LcaIndex(maze, entry);
+        return index;
+    }
+
+    /* -------------------------------------------------
+     *                 DIAMÈTRE ET CENTRE
+     * ------------------------------------------------- */
+
+    /**
+     * @return diamètre, centre et excentricités du labyrinthe (calculés une
+     * fois par labyrinthe, en O(V)).
+     */
+    public TreeShape shape(){
+        if (shape == null)
+            shape = new TreeShape(maze, solver());
+        return shape;
+    }
+
+    /**
+     * Place l'entrée et la sortie aux deux bouts d'un plus long chemin : le
+     * labyrinthe devient le plus long possible à traverser.
+     */
+    public void placeEntryExitFarthest(){
+        int[] ends = shape().endpoints();
+        this.entry = ends[0];
+        this.exit = ends[1];
+        this.index = null;
+    }
+
+    public int getEntry(){
+        return entry;
+    }
 
-        return vertex;
+    public int getExit(){
+        return exit;
     }
 
     /* -------------------------------------------------
@@ -172,40 +211,37 @@ public class Labyrinth {
      * @return nombre de culs-de-sac trouvés dans le labyrinthe.
      */
     public int nbDeadEnds(){
-        deadEnds = new ArrayList<>();
-        flood_fill(entry, new ArrayList<>());
+        return deadEnds().count();
+    }
 
-        return deadEnds.size();
+    /**
+     * @return les culs-de-sac du labyrinthe et la longueur de leurs branches.
+     */
+    public DeadEndAnalysis deadEnds(){
+        LabyrinthEvent event = new LabyrinthEvent.DeadEnds();
+        event.begin();
+        DeadEndAnalysis analysis = new DeadEndAnalysis(maze, entry, exit);
+        commit(event, analysis.count());
+        return analysis;
     }
 
+    /* -------------------------------------------------
+     *                 ÉVÉNEMENTS JFR
+     * ------------------------------------------------- */
+
     /**
-     * Grâce à l'algorithme de remplissage par diffusion, récupère tous
-     * les culs-de-sac du graphe de façon récursive.
+     * Termine l'événement d'une étape et l'enregistre s'il est actif.
      *
-     * @param v sommet qu'on étudie.
-     * @param visited liste des sommets déjà visités (pour éviter les
-     *                boucles infinies).
-     */
-    private void flood_fill(int v, List<Integer> visited){
-        List<Edge> corridors = adjOnlyCorridors[v];
-        int cpt = 0;
-
-        if (v != exit) {
-            visited.add(v);
-            if (!corridors.isEmpty()) {
-                for (Edge e : corridors) {
-                    int neighbor = e.other(v);
-
-                    if (!adjOnlyCorridors[neighbor].isEmpty()) {
-                        cpt++;
-                        if (!visited.contains(neighbor))
-                            flood_fill(neighbor, visited);
-                    }
-                }
-
-                if (cpt == 1)
-                    deadEnds.add(v);
-            }
+     * @param event événement commencé au début de l'étape.
+     * @param result résultat de l'étape.
+     */
+    private void commit(LabyrinthEvent event, long result){
+        event.end();
+        if (event.shouldCommit()){
+            event.vertices = graph.vertices();
+            event.corridors = corridors;
+            event.result = result;
+            event.commit();
         }
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * LabyrinthEvent.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package labyrinth;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événements Java Flight Recorder des différentes étapes de travail sur un
+ * labyrinthe : construction à partir d'un arbre couvrant, calcul de la
+ * distance entrée-sortie et recherche des culs-de-sac.
+ */
+@Category({"Arbres couvrants", "Labyrinthes"})
+abstract class LabyrinthEvent extends Event {
+
+    @Label("Cases")
+    int vertices;
+
+    @Label("Couloirs")
+    int corridors;
+
+    @Label("Résultat")
+    @Description("Distance entrée-sortie ou nombre de culs-de-sac, selon l'étape")
+    long result;
+
+    @Name("arbres.Conversion")
+    @Label("Construction d'un labyrinthe")
+    static final class Conversion extends LabyrinthEvent {}
+
+    @Name("arbres.Solve")
+    @Label("Distance entrée-sortie")
+    static final class Solve extends LabyrinthEvent {}
+
+    @Name("arbres.DeadEnds")
+    @Label("Recherche des culs-de-sac")
+    static final class DeadEnds extends LabyrinthEvent {}
+}
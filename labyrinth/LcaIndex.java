@@ -0,0 +1,221 @@
+/*
+ * LcaIndex.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package labyrinth;
+
+import java.util.Arrays;
+
+/**
+ * Index construit une fois sur les couloirs d'un labyrinthe pour répondre en
+ * temps constant aux questions « plus proche ancêtre commun », « distance
+ * entre deux cases » et, en temps proportionnel à la longueur du chemin,
+ * « chemin entre deux cases », sans rien allouer par question.
+ *
+ * Les couloirs forment un arbre, qu'on enracine et qu'on parcourt en
+ * profondeur (sans récursion). Si u est visitée avant v et n'est pas un
+ * ancêtre de v, leur ancêtre commun est le parent de la case la moins
+ * profonde parmi celles visitées après u, jusqu'à v comprise. Ces minimums
+ * sur un intervalle sont donnés par une table creuse (sparse table) sur des
+ * blocs de BLOCK cases, complétée par un parcours des deux blocs extrêmes :
+ * la mémoire reste en O(V) plutôt qu'en O(V log V).
+ */
+public class LcaIndex {
+
+    /**
+     * Taille des blocs de la table creuse.
+     */
+    private static final int BLOCK = 32;
+
+    private final int[] parent;
+    private final int[] depth;
+
+    /**
+     * Composante de chaque case (les couloirs d'un labyrinthe sont connexes,
+     * mais l'index accepte aussi une forêt).
+     */
+    private final int[] component;
+
+    /**
+     * Rang de chaque case dans le parcours, cases dans l'ordre du parcours et
+     * leur profondeur.
+     */
+    private final int[] rank;
+    private final int[] order;
+    private final int[] orderDepth;
+
+    /**
+     * sparse[k][b] : indice (dans order) de la case la moins profonde des
+     * blocs b ... b + 2^k - 1.
+     */
+    private final int[][] sparse;
+
+    /**
+     * @param maze labyrinthe.
+     * @param root case qui sert de racine (par exemple l'entrée).
+     */
+    public LcaIndex(Maze maze, int root){
+        int n = maze.cells();
+        parent = new int[n];
+        depth = new int[n];
+        component = new int[n];
+        rank = new int[n];
+        order = new int[n];
+        orderDepth = new int[n];
+
+        // Parcours en profondeur itératif, en commençant par la racine.
+        Arrays.fill(component, -1);
+        int[] stack = new int[n];
+        int[] nextChild = new int[n];
+        int visited = 0;
+        int components = 0;
+        for (int k = -1; k < n; k++){
+            int start = k < 0 ? root : k;
+            if (component[start] >= 0)
+                continue;
+            int top = 0;
+            stack[0] = start;
+            parent[start] = -1;
+            depth[start] = 0;
+            component[start] = components;
+            rank[start] = visited;
+            order[visited++] = start;
+            while (top >= 0){
+                int v = stack[top];
+                if (nextChild[v] == maze.degree(v)){
+                    top--;
+                    continue;
+                }
+                int w = maze.neighbor(v, nextChild[v]++);
+                if (component[w] >= 0)
+                    continue;
+                parent[w] = v;
+                depth[w] = depth[v] + 1;
+                component[w] = components;
+                rank[w] = visited;
+                order[visited++] = w;
+                stack[++top] = w;
+            }
+            components++;
+        }
+        for (int i = 0; i < n; i++)
+            orderDepth[i] = depth[order[i]];
+
+        // Table creuse sur les minimums des blocs.
+        int blocks = (n + BLOCK - 1) / BLOCK;
+        int levels = 1;
+        while ((1 << levels) <= blocks)
+            levels++;
+        sparse = new int[levels][];
+        sparse[0] = new int[blocks];
+        for (int b = 0; b < blocks; b++)
+            sparse[0][b] = scanMin(b * BLOCK, Math.min(n, (b + 1) * BLOCK) - 1);
+        for (int k = 1; k < levels; k++){
+            int length = blocks - (1 << k) + 1;
+            sparse[k] = new int[length];
+            for (int b = 0; b < length; b++)
+                sparse[k][b] = shallower(sparse[k - 1][b], sparse[k - 1][b + (1 << (k - 1))]);
+        }
+    }
+
+    /**
+     * @return le plus proche ancêtre commun de a et b (pour la racine
+     * choisie), ou -1 s'ils ne sont pas reliés.
+     */
+    public int lca(int a, int b){
+        if (a == b)
+            return a;
+        if (component[a] != component[b])
+            return -1;
+        int ra = rank[a];
+        int rb = rank[b];
+        if (ra > rb){
+            int t = ra;
+            ra = rb;
+            rb = t;
+        }
+        return parent[order[rangeMin(ra + 1, rb)]];
+    }
+
+    /**
+     * @return nombre de couloirs entre a et b, ou -1 s'ils ne sont pas reliés.
+     */
+    public int distance(int a, int b){
+        int c = lca(a, b);
+        return c < 0 ? -1 : depth[a] + depth[b] - 2 * depth[c];
+    }
+
+    /**
+     * Écrit le chemin de a à b dans path.
+     *
+     * @param a case de départ.
+     * @param b case d'arrivée.
+     * @param path tableau d'au moins distance(a, b) + 1 cases.
+     * @return nombre de cases du chemin, ou 0 si a et b ne sont pas reliés.
+     */
+    public int path(int a, int b, int[] path){
+        int c = lca(a, b);
+        if (c < 0)
+            return 0;
+        int up = depth[a] - depth[c];
+        int length = up + depth[b] - depth[c] + 1;
+        int i = 0;
+        for (int v = a; v != c; v = parent[v])
+            path[i++] = v;
+        path[i] = c;
+        i = length - 1;
+        for (int v = b; v != c; v = parent[v])
+            path[i--] = v;
+        return length;
+    }
+
+    /**
+     * @return profondeur de la case (nombre de couloirs jusqu'à la racine de
+     * sa composante).
+     */
+    public int depth(int v){
+        return depth[v];
+    }
+
+    /**
+     * @return case parente, ou -1 pour une racine.
+     */
+    public int parent(int v){
+        return parent[v];
+    }
+
+    /* -------------------------------------------------
+     *               MINIMUMS SUR UN INTERVALLE
+     * ------------------------------------------------- */
+
+    /**
+     * @return indice de la case la moins profonde de order[lo ... hi].
+     */
+    private int rangeMin(int lo, int hi){
+        int bl = lo / BLOCK;
+        int bh = hi / BLOCK;
+        if (bl == bh)
+            return scanMin(lo, hi);
+        int best = shallower(scanMin(lo, (bl + 1) * BLOCK - 1), scanMin(bh * BLOCK, hi));
+        if (bl + 1 <= bh - 1){
+            int k = 31 - Integer.numberOfLeadingZeros(bh - bl - 1);
+            best = shallower(best, shallower(sparse[k][bl + 1], sparse[k][bh - (1 << k)]));
+        }
+        return best;
+    }
+
+    private int scanMin(int lo, int hi){
+        int best = lo;
+        for (int i = lo + 1; i <= hi; i++)
+            if (orderDepth[i] < orderDepth[best])
+                best = i;
+        return best;
+    }
+
+    private int shallower(int i, int j){
+        return orderDepth[j] < orderDepth[i] ? j : i;
+    }
+}
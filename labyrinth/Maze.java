@@ -0,0 +1,58 @@
+/*
+ * Maze.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package labyrinth;
+
+/**
+ * Cases d'un labyrinthe et couloirs qui les relient. Les couloirs forment un
+ * arbre : entre deux cases, il y a un seul chemin.
+ */
+public interface Maze {
+
+    /**
+     * @return nombre de cases.
+     */
+    int cells();
+
+    /**
+     * @param v case.
+     * @return nombre de couloirs qui partent de la case.
+     */
+    int degree(int v);
+
+    /**
+     * @param v case.
+     * @param k indice entre 0 et degree(v) - 1.
+     * @return case au bout du k-ième couloir.
+     */
+    int neighbor(int v, int k);
+
+    /**
+     * Écrit d'un coup les cases au bout des couloirs de v, dans le même ordre
+     * que neighbor().
+     *
+     * @param v case.
+     * @param out tableau d'au moins degree(v) cases.
+     * @return degree(v).
+     */
+    default int neighbors(int v, int[] out){
+        int d = degree(v);
+        for (int k = 0; k < d; k++)
+            out[k] = neighbor(v, k);
+        return d;
+    }
+
+    /**
+     * @return le plus grand nombre de couloirs d'une case.
+     */
+    default int maxDegree(){
+        int max = 0;
+        for (int v = 0; v < cells(); v++)
+            max = Math.max(max, degree(v));
+        return max;
+    }
+}
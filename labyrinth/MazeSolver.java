@@ -0,0 +1,223 @@
+/*
+ * MazeSolver.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package labyrinth;
+
+import java.util.Arrays;
+
+/**
+ * Plus courts chemins dans un labyrinthe par parcours en largeur : les
+ * couloirs ont tous la même longueur, il n'y a donc pas besoin de Dijkstra.
+ * Les tableaux de travail sont alloués une fois et gardés d'une recherche à
+ * l'autre ; une case est considérée comme visitée si sa marque vaut celle de
+ * la recherche en cours, si bien qu'une recherche ne coûte que le nombre de
+ * cases visitées, sans remise à zéro. Une instance ne doit être utilisée que
+ * par un seul thread à la fois.
+ */
+public class MazeSolver {
+    private final Maze maze;
+
+    /**
+     * Pour chaque côté de la recherche (0 : depuis la source, 1 : depuis la
+     * cible) : marque, distance et prédécesseur de chaque case. Le côté 1
+     * n'est alloué qu'à la première recherche bidirectionnelle : les autres
+     * recherches coûtent 16 octets par case.
+     */
+    private final int[][] mark;
+    private final int[][] dist;
+    private final int[][] pred;
+    private final int[][] queue;
+    private final int[] head = new int[2];
+    private final int[] tail = new int[2];
+    private int stamp;
+
+    /**
+     * Voisins de la case en cours de traitement.
+     */
+    private final int[] around;
+
+    /**
+     * Case où les deux recherches se sont rejointes (recherche bidirectionnelle).
+     */
+    private int meet;
+
+    public MazeSolver(Maze maze){
+        this.maze = maze;
+        this.mark = new int[2][];
+        this.dist = new int[2][];
+        this.pred = new int[2][];
+        this.queue = new int[2][];
+        allocate(0);
+        this.around = new int[maze.maxDegree()];
+    }
+
+    /**
+     * Parcours en largeur depuis source, arrêté dès que target est atteinte.
+     *
+     * @param source case de départ.
+     * @param target case d'arrivée.
+     * @return distance entre les deux cases, ou -1 si aucun chemin.
+     */
+    public int distance(int source, int target){
+        newSearch();
+        meet = -1;
+        int[] m = mark[0];
+        int[] d = dist[0];
+        int[] p = pred[0];
+        int[] q = queue[0];
+        m[source] = stamp;
+        d[source] = 0;
+        p[source] = -1;
+        q[0] = source;
+        int read = 0;
+        int write = 1;
+        while (read < write){
+            int v = q[read++];
+            if (v == target){
+                meet = v;
+                return d[v];
+            }
+            int degree = maze.neighbors(v, around);
+            for (int k = 0; k < degree; k++){
+                int w = around[k];
+                if (m[w] != stamp){
+                    m[w] = stamp;
+                    d[w] = d[v] + 1;
+                    p[w] = v;
+                    q[write++] = w;
+                }
+            }
+        }
+        tail[0] = write;
+        return -1;
+    }
+
+    /**
+     * Parcours en largeur complet depuis source ; lastPath() donne ensuite le
+     * chemin de source à la case trouvée.
+     *
+     * @param source case de départ.
+     * @return une case la plus éloignée de source.
+     */
+    public int farthest(int source){
+        distance(source, -1);
+        meet = queue[0][tail[0] - 1];
+        return meet;
+    }
+
+    /**
+     * Parcours en largeur lancés depuis les deux cases à la fois, en faisant
+     * avancer à chaque étape le côté dont la file est la plus courte. On
+     * s'arrête quand une case est atteinte des deux côtés.
+     *
+     * @param source case de départ.
+     * @param target case d'arrivée.
+     * @return distance entre les deux cases, ou -1 si aucun chemin.
+     */
+    public int distanceBidirectional(int source, int target){
+        if (mark[1] == null)
+            allocate(1);
+        newSearch();
+        meet = -1;
+        start(0, source);
+        start(1, target);
+        if (source == target){
+            meet = source;
+            return 0;
+        }
+
+        while (head[0] < tail[0] && head[1] < tail[1]){
+            int side = tail[0] - head[0] <= tail[1] - head[1] ? 0 : 1;
+            int other = 1 - side;
+            int[] m = mark[side];
+            int[] d = dist[side];
+            int[] p = pred[side];
+            int[] q = queue[side];
+
+            // Avance d'un niveau entier de ce côté.
+            int end = tail[side];
+            while (head[side] < end){
+                int v = q[head[side]++];
+                int degree = maze.neighbors(v, around);
+                for (int k = 0; k < degree; k++){
+                    int w = around[k];
+                    if (m[w] == stamp)
+                        continue;
+                    m[w] = stamp;
+                    d[w] = d[v] + 1;
+                    p[w] = v;
+                    if (mark[other][w] == stamp){
+                        meet = w;
+                        return d[w] + dist[other][w];
+                    }
+                    q[tail[side]++] = w;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return le chemin trouvé par la dernière recherche, de la source à la
+     * cible (vide si aucun chemin).
+     */
+    public int[] lastPath(){
+        if (meet < 0)
+            return new int[0];
+        int before = 0;
+        for (int v = meet; pred[0][v] >= 0; v = pred[0][v])
+            before++;
+        int after = 0;
+        if (mark[1] != null && mark[1][meet] == stamp)
+            for (int v = meet; pred[1][v] >= 0; v = pred[1][v])
+                after++;
+
+        int[] path = new int[before + 1 + after];
+        int v = meet;
+        for (int i = before; i >= 0; i--){
+            path[i] = v;
+            v = pred[0][v];
+        }
+        v = meet;
+        for (int i = before + 1; i < path.length; i++){
+            v = pred[1][v];
+            path[i] = v;
+        }
+        return path;
+    }
+
+    private void allocate(int side){
+        int n = maze.cells();
+        mark[side] = new int[n];
+        dist[side] = new int[n];
+        pred[side] = new int[n];
+        queue[side] = new int[n];
+    }
+
+    private void start(int side, int v){
+        head[side] = 0;
+        tail[side] = 1;
+        mark[side][v] = stamp;
+        dist[side][v] = 0;
+        pred[side][v] = -1;
+        queue[side][0] = v;
+    }
+
+    /**
+     * Nouvelle marque : les cases marquées par les recherches précédentes ne
+     * sont plus visitées. Les marques ne sont remises à zéro que si le compteur
+     * fait le tour.
+     */
+    private void newSearch(){
+        if (++stamp == 0){
+            for (int[] m : mark)
+                if (m != null)
+                    Arrays.fill(m, 0);
+            stamp = 1;
+        }
+    }
+}
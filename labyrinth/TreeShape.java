@@ -0,0 +1,144 @@
+/*
+ * TreeShape.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package labyrinth;
+
+import java.util.Arrays;
+
+/**
+ * Forme d'un labyrinthe (dont les couloirs sont connexes) : diamètre, ses
+ * extrémités, centre et excentricité de chaque case, le tout en O(V).
+ *
+ * Les extrémités du diamètre sont données par deux parcours en largeur : la
+ * case a la plus éloignée d'une case quelconque, puis la case b la plus
+ * éloignée de a. Les excentricités sont calculées par reracinement : en
+ * remontant l'arbre, down1[v] et down2[v] sont les deux plus longues
+ * descentes depuis v par deux enfants différents ; en descendant, up[v] est
+ * le plus long chemin qui part de v vers son parent. L'excentricité de v
+ * est max(down1[v], up[v]).
+ */
+public class TreeShape {
+    private final int[] eccentricity;
+    private final int diameter;
+    private final int first;
+    private final int second;
+    private final int[] center;
+
+    /**
+     * @param maze labyrinthe aux couloirs connexes.
+     * @param solver recherche de plus courts chemins sur ce labyrinthe.
+     */
+    public TreeShape(Maze maze, MazeSolver solver){
+        int n = maze.cells();
+        this.first = solver.farthest(0);
+        this.second = solver.farthest(first);
+
+        // Ordre en largeur depuis la case 0 : un parent vient avant ses enfants.
+        int[] order = new int[n];
+        int[] parent = new int[n];
+        boolean[] seen = new boolean[n];
+        order[0] = 0;
+        parent[0] = -1;
+        seen[0] = true;
+        int count = 1;
+        int[] around = new int[maze.maxDegree()];
+        for (int i = 0; i < count; i++){
+            int v = order[i];
+            int degree = maze.neighbors(v, around);
+            for (int k = 0; k < degree; k++){
+                int w = around[k];
+                if (!seen[w]){
+                    seen[w] = true;
+                    parent[w] = v;
+                    order[count++] = w;
+                }
+            }
+        }
+        if (count != n)
+            throw new IllegalArgumentException("les couloirs du labyrinthe ne sont pas connexes");
+
+        // Descentes les plus longues, en remontant.
+        int[] down1 = new int[n];
+        int[] down2 = new int[n];
+        int[] down1Child = new int[n];
+        Arrays.fill(down1Child, -1);
+        for (int i = n - 1; i > 0; i--){
+            int v = order[i];
+            int p = parent[v];
+            int length = down1[v] + 1;
+            if (length > down1[p]){
+                down2[p] = down1[p];
+                down1[p] = length;
+                down1Child[p] = v;
+            }
+            else if (length > down2[p])
+                down2[p] = length;
+        }
+
+        // Chemins vers le parent, en descendant.
+        int[] up = new int[n];
+        eccentricity = new int[n];
+        int best = 0;
+        int radius = Integer.MAX_VALUE;
+        for (int i = 0; i < n; i++){
+            int v = order[i];
+            if (i > 0){
+                int p = parent[v];
+                int sibling = down1Child[p] == v ? down2[p] : down1[p];
+                up[v] = 1 + Math.max(up[p], sibling);
+            }
+            eccentricity[v] = Math.max(down1[v], up[v]);
+            best = Math.max(best, eccentricity[v]);
+            radius = Math.min(radius, eccentricity[v]);
+        }
+        this.diameter = best;
+
+        // Le centre : une case, ou deux cases voisines si le diamètre est impair.
+        int[] c = new int[2];
+        int found = 0;
+        for (int v = 0; v < n && found < 2; v++)
+            if (eccentricity[v] == radius)
+                c[found++] = v;
+        this.center = Arrays.copyOf(c, found);
+    }
+
+    /**
+     * @return longueur (en couloirs) du plus long chemin du labyrinthe.
+     */
+    public int diameter(){
+        return diameter;
+    }
+
+    /**
+     * @return les deux extrémités d'un plus long chemin.
+     */
+    public int[] endpoints(){
+        return new int[]{first, second};
+    }
+
+    /**
+     * @return la ou les deux cases d'excentricité minimale.
+     */
+    public int[] center(){
+        return center.clone();
+    }
+
+    /**
+     * @param v case.
+     * @return distance de v à la case la plus éloignée.
+     */
+    public int eccentricity(int v){
+        return eccentricity[v];
+    }
+
+    /**
+     * @return excentricité de chaque case.
+     */
+    public int[] eccentricities(){
+        return eccentricity.clone();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * WallGrid.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package labyrinth;
+
+import graph.GridGraph;
+import graph.IndexedGraph;
+import graph.SpanningTree;
+
+/**
+ * Labyrinthe sur une grille n x n (case v = n * i + j, ligne i, colonne j)
+ * stocké sur deux bits par case : passage ouvert vers la droite, passage
+ * ouvert vers le bas. Les passages vers le haut et vers la gauche sont lus
+ * sur les cases voisines. Un labyrinthe 1000 x 1000 tient ainsi dans 250 ko.
+ *
+ * Les couloirs d'une case sont donnés dans l'ordre : haut, gauche, bas,
+ * droite (le même que GridGraph et Graph.Grid).
+ */
+public class WallGrid implements Maze {
+    private static final int RIGHT = 1;
+    private static final int DOWN = 2;
+
+    private final int n;
+
+    /**
+     * Deux bits par case, 32 cases par mot.
+     */
+    private final long[] bits;
+
+    /**
+     * @param tree arbre couvrant d'une grille (voir isGrid()).
+     */
+    public WallGrid(SpanningTree tree){
+        IndexedGraph graph = tree.graph();
+        this.n = gridSize(graph);
+        if (n < 0)
+            throw new IllegalArgumentException("le graphe n'est pas une grille carrée");
+        this.bits = new long[(n * n + 31) >>> 5];
+
+        for (int k = 0; k < tree.size(); k++){
+            int id = tree.edgeId(k);
+            int a = Math.min(graph.edgeFrom(id), graph.edgeTo(id));
+            int b = Math.max(graph.edgeFrom(id), graph.edgeTo(id));
+            if (b == a + 1 && b % n != 0)
+                open(a, RIGHT);
+            else if (b == a + n)
+                open(a, DOWN);
+            else
+                throw new IllegalArgumentException("l'arête " + a + "-" + b + " ne relie pas deux cases voisines");
+        }
+    }
+
+    /**
+     * @param graph graphe.
+     * @return vrai si les sommets du graphe sont les cases d'une grille carrée
+     * (v = n * i + j) et ses arêtes relient des cases voisines.
+     */
+    public static boolean isGrid(IndexedGraph graph){
+        return gridSize(graph) >= 0;
+    }
+
+    /**
+     * @return taille n de la grille, ou -1 si le graphe n'en est pas une.
+     */
+    private static int gridSize(IndexedGraph graph){
+        if (graph instanceof GridGraph)
+            return ((GridGraph) graph).size();
+        int n = (int) Math.round(Math.sqrt(graph.vertices()));
+        if (n * n != graph.vertices())
+            return -1;
+        for (int id = 0; id < graph.edgeCount(); id++){
+            int a = Math.min(graph.edgeFrom(id), graph.edgeTo(id));
+            int b = Math.max(graph.edgeFrom(id), graph.edgeTo(id));
+            if (!(b == a + 1 && b % n != 0) && b != a + n)
+                return -1;
+        }
+        return n;
+    }
+
+    private void open(int v, int wall){
+        bits[v >>> 5] |= (long) wall << ((v & 31) << 1);
+    }
+
+    private int walls(int v){
+        return (int) (bits[v >>> 5] >>> ((v & 31) << 1)) & 3;
+    }
+
+    /**
+     * @return taille de la grille.
+     */
+    public int size(){
+        return n;
+    }
+
+    /**
+     * @return vrai si un couloir relie v à la case au-dessus.
+     */
+    public boolean up(int v){
+        return v >= n && (walls(v - n) & DOWN) != 0;
+    }
+
+    /**
+     * @return vrai si un couloir relie v à la case de gauche.
+     */
+    public boolean left(int v){
+        return v % n != 0 && (walls(v - 1) & RIGHT) != 0;
+    }
+
+    /**
+     * @return vrai si un couloir relie v à la case en dessous.
+     */
+    public boolean down(int v){
+        return (walls(v) & DOWN) != 0;
+    }
+
+    /**
+     * @return vrai si un couloir relie v à la case de droite.
+     */
+    public boolean right(int v){
+        return (walls(v) & RIGHT) != 0;
+    }
+
+    @Override
+    public int cells() {
+        return n * n;
+    }
+
+    @Override
+    public int degree(int v) {
+        int d = Integer.bitCount(walls(v));
+        if (up(v)) d++;
+        if (left(v)) d++;
+        return d;
+    }
+
+    @Override
+    public int neighbor(int v, int k) {
+        if (up(v) && k-- == 0) return v - n;
+        if (left(v) && k-- == 0) return v - 1;
+        if (down(v) && k-- == 0) return v + n;
+        if (right(v) && k == 0) return v + 1;
+        throw new IndexOutOfBoundsException("la case " + v + " n'a pas de couloir numéro " + k);
+    }
+
+    /**
+     * Lit les quatre passages de la case en une fois.
+     */
+    @Override
+    public int neighbors(int v, int[] out) {
+        int d = 0;
+        if (up(v)) out[d++] = v - n;
+        if (left(v)) out[d++] = v - 1;
+        int w = walls(v);
+        if ((w & DOWN) != 0) out[d++] = v + n;
+        if ((w & RIGHT) != 0) out[d++] = v + 1;
+        return d;
+    }
+
+    @Override
+    public int maxDegree() {
+        return Math.min(4, Math.max(0, 2 * (n - 1)));
+    }
+
+    /**
+     * @return le labyrinthe dessiné en texte, une ligne de la grille sur deux
+     * lignes de texte.
+     */
+    public String toText(){
+        StringBuilder sb = new StringBuilder();
+        for (int j = 0; j < n; j++)
+            sb.append("+--");
+        sb.append("+\n");
+        for (int i = 0; i < n; i++){
+            sb.append('|');
+            for (int j = 0; j < n; j++)
+                sb.append("  ").append(right(n * i + j) ? ' ' : '|');
+            sb.append("\n+");
+            for (int j = 0; j < n; j++)
+                sb.append(down(n * i + j) ? "  +" : "--+");
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * LatencyStats.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package server;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistiques des requêtes du serveur : nombre de requêtes servies,
+ * rejetées et échouées, débit depuis le démarrage et latences des dernières requêtes
+ * (pour les percentiles).
+ */
+class LatencyStats {
+
+    /**
+     * Nombre de latences gardées pour calculer les percentiles.
+     */
+    private static final int WINDOW = 1 << 14;
+
+    private final long start = System.nanoTime();
+    private final LongAdder served = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Dernières latences en nanosecondes, dans un tampon circulaire.
+     */
+    private final long[] latencies = new long[WINDOW];
+    private long recorded;
+
+    /**
+     * @param nanos durée d'une requête servie.
+     */
+    void served(long nanos){
+        served.increment();
+        synchronized (latencies){
+            latencies[(int) (recorded++ % WINDOW)] = nanos;
+        }
+    }
+
+    void rejected(){
+        rejected.increment();
+    }
+
+    void failed(){
+        failed.increment();
+    }
+
+    /**
+     * @param q quantile entre 0 et 1.
+     * @return latence en millisecondes en dessous de laquelle sont une
+     * proportion q des dernières requêtes (0 si aucune requête).
+     */
+    double percentile(double q){
+        long[] copy;
+        synchronized (latencies){
+            copy = Arrays.copyOf(latencies, (int) Math.min(recorded, WINDOW));
+        }
+        if (copy.length == 0)
+            return 0;
+        Arrays.sort(copy);
+        int rank = (int) Math.ceil(q * copy.length) - 1;
+        return copy[Math.max(rank, 0)] / 1e6;
+    }
+
+    /**
+     * @return nombre moyen de requêtes servies par seconde depuis le démarrage.
+     */
+    double throughput(){
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return served.sum() / seconds;
+    }
+
+    @Override
+    public String toString() {
+        return "servies : " + served.sum() + "\n"
+                + "rejetées (503) : " + rejected.sum() + "\n"
+                + "échouées (500) : " + failed.sum() + "\n"
+                + String.format(Locale.US, "débit : %.1f labyrinthes/s%n", throughput())
+                + String.format(Locale.US, "latence p50 : %.3f ms%n", percentile(0.50))
+                + String.format(Locale.US, "latence p99 : %.3f ms%n", percentile(0.99));
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * MazeServer.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package server;
+
+import algorithms.Algorithm;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import graph.GridGraph;
+import labyrinth.Labyrinth;
+import utils.Rng;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Petit serveur HTTP local qui génère des labyrinthes.
+ *
+ *   GET /maze?algorithm=wilson&size=20&seed=42
+ *       labyrinthe size x size en texte, avec la distance entre l'entrée et
+ *       la sortie et le nombre de culs-de-sac (seed est facultatif : la
+ *       graine utilisée est renvoyée dans l'en-tête X-Seed) ;
+ *   GET /stats
+ *       nombre de requêtes, débit et latences p50 / p99.
+ *
+ * Chaque requête est traitée sur un thread virtuel quand la JVM en a (Java
+ * 21 et plus), sinon sur un pool de threads classique. La génération occupe
+ * le processeur : le sémaphore compte les threads de génération, au plus
+ * maxThreads en même temps. Une génération séquentielle en prend un ;
+ * Borůvka tourne sur un petit pool appartenant au serveur et en prend
+ * autant que ce pool a de threads. Une requête qui ne trouve pas de place
+ * est rejetée tout de suite avec 503 au lieu d'attendre dans une file sans
+ * limite, et la taille est bornée par algorithme pour qu'aucune génération
+ * ne garde ses threads plus de quelques secondes.
+ */
+public class MazeServer {
+
+    /**
+     * Taille maximale des labyrinthes demandés (de l'ordre d'une seconde de
+     * génération et 6 Mo de texte pour 1000).
+     */
+    static final int MAX_SIZE = 1000;
+
+    /**
+     * Taille maximale pour Aldous-Broder, dont la marche doit couvrir toute
+     * la grille (de l'ordre de V log² V pas).
+     */
+    static final int MAX_SIZE_ALDOUS_BRODER = 500;
+
+    /**
+     * Nombre maximal de threads du pool des algorithmes parallèles.
+     */
+    static final int PARALLEL_THREADS = 4;
+
+    private static final Logger LOGGER = Logger.getLogger(MazeServer.class.getName());
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ForkJoinPool pool;
+    private final Semaphore permits;
+    private final LatencyStats stats = new LatencyStats();
+
+    /**
+     * @param port port d'écoute (sur l'interface locale).
+     * @param maxThreads nombre maximal de threads qui génèrent en même temps.
+     */
+    public MazeServer(int port, int maxThreads) throws IOException {
+        this.permits = new Semaphore(maxThreads);
+        this.pool = new ForkJoinPool(Math.max(1, Math.min(PARALLEL_THREADS, maxThreads)));
+        this.executor = newRequestExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/maze", this::maze);
+        server.createContext("/stats", exchange -> send(exchange, 200, stats.toString()));
+    }
+
+    public void start(){
+        server.start();
+    }
+
+    /**
+     * Arrête le serveur en laissant une seconde aux requêtes en cours.
+     */
+    public void stop(){
+        server.stop(1);
+        executor.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    /**
+     * @return port d'écoute effectif (utile si le port demandé était 0).
+     */
+    public int port(){
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Un thread virtuel par requête si Executors.newVirtualThreadPerTaskExecutor
+     * existe, sinon un pool qui crée des threads à la demande. La méthode est
+     * cherchée par réflexion pour que le serveur tourne aussi sur les JVM
+     * plus anciennes (8u262 au minimum, pour les événements JFR).
+     */
+    private static ExecutorService newRequestExecutor(){
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException e){
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /* -------------------------------------------------
+     *                      REQUÊTES
+     * ------------------------------------------------- */
+
+    private void maze(HttpExchange exchange) throws IOException {
+        long begin = System.nanoTime();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        Algorithm.type type;
+        int size;
+        long seed;
+        try {
+            type = Algorithm.type.valueOf(query.getOrDefault("algorithm", "wilson"));
+            size = Integer.parseInt(query.getOrDefault("size", "10"));
+            seed = query.containsKey("seed") ? Long.parseLong(query.get("seed")) : ThreadLocalRandom.current().nextLong();
+        }
+        catch (IllegalArgumentException e){
+            send(exchange, 400, "paramètre invalide : " + e.getMessage() + "\n");
+            return;
+        }
+        int max = maxSize(type);
+        if (size < 2 || size > max){
+            send(exchange, 400, "size doit être entre 2 et " + max + " pour " + type + "\n");
+            return;
+        }
+
+        int threads = type == Algorithm.type.boruvka ? pool.getParallelism() : 1;
+        if (!permits.tryAcquire(threads)){
+            stats.rejected();
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            send(exchange, 503, "serveur occupé\n");
+            return;
+        }
+        String body = null;
+        Throwable failure = null;
+        try {
+            GridGraph g = new GridGraph(size);
+            Algorithm algo = type == Algorithm.type.boruvka
+                    ? Algorithm.createParallel(type, g, pool, Rng.seeded(seed))
+                    : Algorithm.create(type, g, Rng.seeded(seed));
+            Labyrinth labyrinth = new Labyrinth(algo.algo());
+            body = "distance : " + labyrinth.distanceEntryExit() + "\n"
+                    + "culs-de-sac : " + labyrinth.nbDeadEnds() + "\n"
+                    + labyrinth.toText();
+        }
+        catch (RuntimeException | OutOfMemoryError e){
+            failure = e;
+        }
+        finally {
+            permits.release(threads);
+        }
+        if (failure != null){
+            // Le détail reste dans le journal du serveur, avec de quoi rejouer la requête.
+            LOGGER.log(Level.WARNING, "échec de la génération (algorithm=" + type + ", size=" + size + ", seed=" + seed + ")", failure);
+            stats.failed();
+            send(exchange, 500, "échec de la génération\n");
+            return;
+        }
+        exchange.getResponseHeaders().set("X-Seed", Long.toString(seed));
+        send(exchange, 200, body);
+        stats.served(System.nanoTime() - begin);
+    }
+
+    /**
+     * @param type algorithme.
+     * @return taille maximale des labyrinthes générés avec cet algorithme.
+     */
+    static int maxSize(Algorithm.type type){
+        return type == Algorithm.type.aldousBroder ? MAX_SIZE_ALDOUS_BRODER : MAX_SIZE;
+    }
+
+    private static Map<String, String> parseQuery(String raw) throws IOException {
+        Map<String, String> query = new HashMap<>();
+        if (raw == null)
+            return query;
+        for (String pair : raw.split("&")){
+            int eq = pair.indexOf('=');
+            if (eq > 0)
+                query.put(URLDecoder.decode(pair.substring(0, eq), "UTF-8"), URLDecoder.decode(pair.substring(eq + 1), "UTF-8"));
+        }
+        return query;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()){
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * @param args port (8080 par défaut) puis nombre maximal de threads qui
+     *             génèrent en même temps (nombre de coeurs par défaut).
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        MazeServer server = new MazeServer(port, maxThreads);
+        server.start();
+        System.out.println("Serveur de labyrinthes sur http://localhost:" + server.port() + "/maze");
+    }
+}
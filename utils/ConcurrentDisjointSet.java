@@ -0,0 +1,104 @@
+/*
+ * ConcurrentDisjointSet.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Structure union-find utilisable par plusieurs threads en même temps, sans
+ * verrou : les liens de parenté sont modifiés par compare-and-set. Une racine
+ * est toujours attachée sous une racine de numéro plus grand, ce qui empêche
+ * de créer des cycles quand deux unions se croisent.
+ *
+ * Cet ordre ne tient compte ni du rang ni de la taille des composantes : la
+ * profondeur des arbres n'est limitée que par la compression de find(). Sans
+ * union par rang, le coût amorti est en O(log n) par opération (Tarjan et
+ * van Leeuwen) au lieu de O(α(n)).
+ */
+public class ConcurrentDisjointSet {
+    private final AtomicIntegerArray parent;
+
+    /**
+     * @param n nombre d'éléments.
+     */
+    public ConcurrentDisjointSet(int n){
+        this.parent = new AtomicIntegerArray(n);
+        reset();
+    }
+
+    /**
+     * Remet chaque élément dans sa propre composante (pas en même temps que
+     * d'autres appels).
+     */
+    public void reset(){
+        for (int i = 0; i < parent.length(); i++)
+            parent.set(i, i);
+    }
+
+    /**
+     * Suit les liens de parenté jusqu'à la racine, avec compression par
+     * path splitting : chaque noeud du chemin est rattaché à son grand-père.
+     * Un compare-and-set raté est simplement ignoré : le lien lu reste un
+     * ancêtre de v.
+     *
+     * @param v élément.
+     * @return la racine de la composante de v au moment de l'appel.
+     */
+    public int find(int v){
+        int p = parent.get(v);
+        while (p != v){
+            int gp = parent.get(p);
+            if (gp != p)
+                parent.compareAndSet(v, p, gp);
+            v = p;
+            p = parent.get(v);
+        }
+        return v;
+    }
+
+    /**
+     * Réunit les composantes de a et b.
+     *
+     * @param a élément.
+     * @param b élément.
+     * @return vrai si cet appel a réuni deux composantes différentes.
+     */
+    public boolean union(int a, int b){
+        while (true){
+            int ra = find(a);
+            int rb = find(b);
+            if (ra == rb)
+                return false;
+            if (ra > rb){
+                int tmp = ra;
+                ra = rb;
+                rb = tmp;
+            }
+            // ra n'est peut-être plus une racine : on recommence dans ce cas.
+            if (parent.compareAndSet(ra, ra, rb))
+                return true;
+        }
+    }
+
+    /**
+     * @param a élément.
+     * @param b élément.
+     * @return vrai si a et b sont dans la même composante.
+     */
+    public boolean connected(int a, int b){
+        while (true){
+            int ra = find(a);
+            int rb = find(b);
+            if (ra == rb)
+                return true;
+            // ra toujours racine : les deux composantes étaient bien distinctes.
+            if (parent.get(ra) == ra)
+                return false;
+        }
+    }
+}
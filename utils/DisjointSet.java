@@ -0,0 +1,137 @@
+/*
+ * DisjointSet.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+/**
+ * Structure union-find sur les entiers 0 ... n - 1, avec compression de
+ * chemin par halving et union par rang. Les tableaux sont gardés d'un appel
+ * à reset() à l'autre pour ne pas réallouer à chaque exécution. Un rang ne
+ * dépasse pas log2(n) < 31 : il tient dans un octet, d'où 5 octets par
+ * élément.
+ */
+public class DisjointSet {
+    private int[] parent;
+    private byte[] rank;
+
+    /**
+     * Nombre de composantes actuelles.
+     */
+    private int count;
+
+    /**
+     * @param n nombre d'éléments.
+     */
+    public DisjointSet(int n){
+        this.parent = new int[n];
+        this.rank = new byte[n];
+        reset(n);
+    }
+
+    /**
+     * Remet chaque élément dans sa propre composante.
+     *
+     * @param n nombre d'éléments (les tableaux sont agrandis si besoin).
+     */
+    public void reset(int n){
+        if (parent.length < n){
+            parent = new int[n];
+            rank = new byte[n];
+        }
+        for (int i = 0; i < n; i++){
+            parent[i] = i;
+            rank[i] = 0;
+        }
+        count = n;
+    }
+
+    /**
+     * Suit les liens de parenté jusqu'à la racine, en faisant pointer au
+     * passage chaque noeud sur son grand-père.
+     *
+     * @param v élément.
+     * @return la racine de la composante de v.
+     */
+    public int find(int v){
+        while (parent[v] != v){
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    /**
+     * Comme find(), mais sans modifier la structure : peut être appelé par
+     * plusieurs threads en même temps tant qu'aucune union n'a lieu.
+     *
+     * @param v élément.
+     * @return la racine de la composante de v.
+     */
+    public int root(int v){
+        while (parent[v] != v)
+            v = parent[v];
+        return v;
+    }
+
+    /**
+     * @param v élément.
+     * @return nombre de liens entre v et sa racine, c'est-à-dire le nombre
+     * de pas que fera find(v) (sans modifier la structure).
+     */
+    public int depth(int v){
+        int d = 0;
+        while (parent[v] != v){
+            v = parent[v];
+            d++;
+        }
+        return d;
+    }
+
+    /**
+     * Réunit les composantes de a et b en attachant la racine de plus petit
+     * rang sous l'autre.
+     *
+     * @param a élément.
+     * @param b élément.
+     * @return vrai si a et b étaient dans deux composantes différentes.
+     */
+    public boolean union(int a, int b){
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb)
+            return false;
+
+        if (rank[ra] < rank[rb]){
+            parent[ra] = rb;
+        }
+        else if (rank[ra] > rank[rb]){
+            parent[rb] = ra;
+        }
+        else {
+            parent[rb] = ra;
+            rank[ra]++;
+        }
+        count--;
+        return true;
+    }
+
+    /**
+     * @param a élément.
+     * @param b élément.
+     * @return vrai si a et b sont dans la même composante.
+     */
+    public boolean connected(int a, int b){
+        return find(a) == find(b);
+    }
+
+    /**
+     * @return nombre de composantes.
+     */
+    public int count(){
+        return count;
+    }
+}
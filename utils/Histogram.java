@@ -8,7 +8,7 @@
 
 package utils;
 
-import graph.SpanningTree;
+import graph.TreeCode;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
@@ -21,7 +21,7 @@ import java.util.Map;
  * des arbres couvrants donnés en paramètres.
  */
 public class Histogram {
-    private final Map<SpanningTree, Double> bars;
+    private final Map<TreeCode, Double> bars;
     /**
      * Décalage en X du graphique par rapport à la gauche de la fenêtre.
      */
@@ -62,7 +62,7 @@ public class Histogram {
      */
     private static final int INCR = 15;
 
-    public Histogram(@NotNull Map<SpanningTree, Double> probabilities){
+    public Histogram(@NotNull Map<TreeCode, Double> probabilities){
         this.bars = probabilities;
     }
 
@@ -88,7 +88,7 @@ public class Histogram {
 
         // Dessine les barres
         int x, y, x1, y1, x2, y2, width, height, i = 0;
-        for (SpanningTree s : bars.keySet()){
+        for (TreeCode s : bars.keySet()){
             // Barre
             double pba = bars.get(s);
             x = DEC_X + i * (LG_B + 1);
@@ -141,7 +141,7 @@ public class Histogram {
     public String toString() {
         StringBuilder stringBuilder = new StringBuilder("Valeurs détaillées de l'histogramme :\n");
 
-        for (SpanningTree s : bars.keySet()){
+        for (TreeCode s : bars.keySet()){
             double p = bars.get(s);
             double pbaRounded = Math.round(p*100)/100d;
             stringBuilder.append(s.toString());
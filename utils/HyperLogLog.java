@@ -0,0 +1,76 @@
+/*
+ * HyperLogLog.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+import java.util.Arrays;
+
+/**
+ * Estimateur HyperLogLog du nombre d'éléments distincts d'un flux, à partir
+ * de hachages sur 64 bits. La mémoire est fixe (2^precision octets) et
+ * l'erreur relative est d'environ 1.04 / sqrt(2^precision).
+ */
+public class HyperLogLog {
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * @param precision nombre de bits du hachage qui choisissent le registre,
+     *                  entre 4 et 18.
+     */
+    public HyperLogLog(int precision){
+        if (precision < 4 || precision > 18)
+            throw new IllegalArgumentException("précision entre 4 et 18");
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * @param hash hachage 64 bits d'un élément.
+     */
+    public void add(long hash){
+        int index = (int) (hash >>> (64 - precision));
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index])
+            registers[index] = (byte) rank;
+    }
+
+    /**
+     * Ajoute à cet estimateur les éléments d'un autre de même précision.
+     */
+    public void addAll(HyperLogLog other){
+        if (other.precision != precision)
+            throw new IllegalArgumentException("précisions différentes");
+        for (int i = 0; i < registers.length; i++)
+            if (other.registers[i] > registers[i])
+                registers[i] = other.registers[i];
+    }
+
+    /**
+     * @return estimation du nombre d'éléments distincts.
+     */
+    public double estimate(){
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte r : registers){
+            sum += Math.scalb(1.0, -r);
+            if (r == 0)
+                zeros++;
+        }
+        double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1 + 1.079 / m);
+        double e = alpha * m * m / sum;
+        // Petites valeurs : comptage linéaire sur les registres vides.
+        if (e <= 2.5 * m && zeros > 0)
+            return m * Math.log((double) m / zeros);
+        return e;
+    }
+
+    public void clear(){
+        Arrays.fill(registers, (byte) 0);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * IndexedHeap.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+/**
+ * Tas d-aire de minimum sur les entiers 0 ... n - 1, avec des clés double et
+ * une opération de diminution de clé. Tout est stocké dans des tableaux
+ * alloués une fois pour toutes : aucune opération ne crée d'objet.
+ */
+public class IndexedHeap {
+    private final int d;
+
+    /**
+     * heap[0 ... size - 1] : éléments rangés en tas.
+     */
+    private final int[] heap;
+
+    /**
+     * position[x] : indice de x dans heap, ou -1 s'il n'est pas dans le tas.
+     */
+    private final int[] position;
+    private final double[] keys;
+    private int size;
+
+    /**
+     * @param n nombre d'éléments possibles.
+     * @param d nombre de fils de chaque noeud (au moins 2).
+     */
+    public IndexedHeap(int n, int d){
+        if (d < 2)
+            throw new IllegalArgumentException("d doit valoir au moins 2");
+        this.d = d;
+        this.heap = new int[n];
+        this.position = new int[n];
+        this.keys = new double[n];
+        for (int x = 0; x < n; x++)
+            position[x] = -1;
+        this.size = 0;
+    }
+
+    /**
+     * Vide le tas en O(size).
+     */
+    public void clear(){
+        for (int i = 0; i < size; i++)
+            position[heap[i]] = -1;
+        size = 0;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    public int size(){
+        return size;
+    }
+
+    /**
+     * @param x élément.
+     * @return vrai si x est dans le tas.
+     */
+    public boolean contains(int x){
+        return position[x] >= 0;
+    }
+
+    /**
+     * @param x élément du tas.
+     * @return clé de x.
+     */
+    public double key(int x){
+        return keys[x];
+    }
+
+    /**
+     * Ajoute x avec la clé donnée.
+     *
+     * @param x élément qui n'est pas dans le tas.
+     * @param key clé.
+     */
+    public void insert(int x, double key){
+        if (contains(x))
+            throw new IllegalStateException(x + " est déjà dans le tas");
+        keys[x] = key;
+        heap[size] = x;
+        position[x] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Diminue la clé de x (sans effet si la nouvelle clé n'est pas plus petite).
+     *
+     * @param x élément du tas.
+     * @param key nouvelle clé.
+     */
+    public void decreaseKey(int x, double key){
+        if (key < keys[x]){
+            keys[x] = key;
+            siftUp(position[x]);
+        }
+    }
+
+    /**
+     * Enlève l'élément de plus petite clé.
+     *
+     * @return cet élément.
+     */
+    public int pollMin(){
+        if (size == 0)
+            throw new IllegalStateException("le tas est vide");
+        int min = heap[0];
+        position[min] = -1;
+        size--;
+        if (size > 0){
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    private void siftUp(int i){
+        int x = heap[i];
+        double key = keys[x];
+        while (i > 0){
+            int p = (i - 1) / d;
+            int parent = heap[p];
+            if (keys[parent] <= key)
+                break;
+            heap[i] = parent;
+            position[parent] = i;
+            i = p;
+        }
+        heap[i] = x;
+        position[x] = i;
+    }
+
+    private void siftDown(int i){
+        int x = heap[i];
+        double key = keys[x];
+        while (true){
+            int first = d * i + 1;
+            if (first >= size)
+                break;
+            int last = Math.min(first + d, size);
+            int child = first;
+            for (int c = first + 1; c < last; c++)
+                if (keys[heap[c]] < keys[heap[child]])
+                    child = c;
+            if (keys[heap[child]] >= key)
+                break;
+            heap[i] = heap[child];
+            position[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = x;
+        position[x] = i;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MonteCarlo.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+import algorithms.Algorithm;
+import algorithms.TreeSink;
+import graph.IndexedGraph;
+import graph.TreeCode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Tire un grand nombre d'arbres couvrants sur plusieurs threads et compte
+ * les apparitions de chacun. Chaque thread a son propre algorithme (et donc
+ * ses propres tableaux de travail), son propre flux aléatoire obtenu par
+ * split() et sa propre table ({@link TreeCounter} ou {@link TreeSketch}) ;
+ * les tables sont réunies à la fin.
+ * Les arbres sont désignés par leur {@link TreeCode}.
+ * Le graphe, qui n'est jamais modifié, est partagé par tous les threads.
+ */
+public class MonteCarlo {
+    private final IndexedGraph graph;
+    private final Algorithm.type type;
+    private final int threads;
+    private final Rng random;
+
+    /**
+     * @param graph graphe où on tire les arbres.
+     * @param type algorithme utilisé.
+     * @param threads nombre de threads.
+     * @param random générateur d'où sont tirés les flux des threads.
+     */
+    public MonteCarlo(IndexedGraph graph, Algorithm.type type, int threads, Rng random){
+        if (threads < 1)
+            throw new IllegalArgumentException("il faut au moins un thread");
+        this.graph = graph;
+        this.type = type;
+        this.threads = threads;
+        this.random = random;
+    }
+
+    /**
+     * @param samples nombre total d'arbres à tirer.
+     * @return nombre d'apparitions de chaque arbre.
+     */
+    public Map<TreeCode, Long> run(long samples){
+        return runWorkers(samples, TreeCounter::new, TreeCounter::addAll).toMap();
+    }
+
+    /**
+     * Comme run(), mais en mémoire constante : les arbres ne sont pas comptés
+     * un par un mais résumés dans un {@link TreeSketch}.
+     *
+     * @param samples nombre total d'arbres à tirer.
+     * @param precision précision de l'estimation du nombre d'arbres distincts.
+     * @param k nombre d'arbres fréquents suivis.
+     * @return résumé des tirages.
+     */
+    public TreeSketch sketch(long samples, int precision, int k){
+        return runWorkers(samples, () -> new TreeSketch(graph, precision, k), TreeSketch::addAll);
+    }
+
+    /**
+     * Répartit les tirages entre les threads, chacun avec sa propre table
+     * créée par local, puis réunit les tables avec merge.
+     */
+    private <S extends TreeSink> S runWorkers(long samples, Supplier<S> local, BiConsumer<S, S> merge){
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<S>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++){
+                long count = samples / threads + (t < samples % threads ? 1 : 0);
+                Rng stream = random.split();
+                results.add(executor.submit(() -> count(count, stream, local.get())));
+            }
+
+            // Réunit les tables des threads.
+            S merged = local.get();
+            for (Future<S> result : results)
+                merge.accept(merged, result.get());
+            return merged;
+        }
+        catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("tirage interrompu", e);
+        }
+        catch (ExecutionException e){
+            throw new IllegalStateException("échec d'un thread de tirage", e.getCause());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Travail d'un thread : tire count arbres et les compte dans une table
+     * locale, sans synchronisation.
+     */
+    private <S extends TreeSink> S count(long count, Rng stream, S table){
+        Algorithm algo = Algorithm.create(type, graph, stream);
+        while (count > 0){
+            int batch = (int) Math.min(count, Integer.MAX_VALUE);
+            algo.sample(batch, table);
+            count -= batch;
+        }
+        return table;
+    }
+
+    /**
+     * @param counts nombre d'apparitions de chaque arbre.
+     * @return probabilités d'apparition en pourcentage, pour {@link Histogram}.
+     */
+    public static Map<TreeCode, Double> percentages(Map<TreeCode, Long> counts){
+        long total = 0;
+        for (long c : counts.values())
+            total += c;
+        Map<TreeCode, Double> p = new HashMap<>();
+        for (Map.Entry<TreeCode, Long> e : counts.entrySet())
+            p.put(e.getKey(), 100.0 * e.getValue() / total);
+        return p;
+    }
+
+}
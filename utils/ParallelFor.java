@@ -0,0 +1,105 @@
+/*
+ * ParallelFor.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Découpe un travail en blocs numérotés et les exécute dans un ForkJoinPool.
+ */
+public final class ParallelFor {
+
+    /**
+     * Taille minimale d'un bloc, en dessous de laquelle le découpage coûte
+     * plus cher qu'il ne rapporte.
+     */
+    public static final int MIN_BLOCK = 4096;
+
+    /**
+     * Taille des morceaux de chunkCount(), qui ne dépend pas du nombre de
+     * coeurs.
+     */
+    public static final int CHUNK = 1 << 16;
+
+    private ParallelFor(){
+    }
+
+    /**
+     * @param pool pool de threads.
+     * @param n nombre d'éléments à traiter.
+     * @return nombre de blocs à utiliser pour n éléments.
+     */
+    public static int blockCount(ForkJoinPool pool, int n){
+        int max = (n + MIN_BLOCK - 1) / MIN_BLOCK;
+        return Math.max(1, Math.min(4 * pool.getParallelism(), max));
+    }
+
+    /**
+     * À utiliser quand chaque bloc a son propre générateur aléatoire : le
+     * découpage, et donc le résultat pour une graine donnée, est le même quelle
+     * que soit la machine.
+     *
+     * @param n nombre d'éléments à traiter.
+     * @return nombre de morceaux de taille CHUNK pour n éléments.
+     */
+    public static int chunkCount(int n){
+        return Math.max(1, (n + CHUNK - 1) / CHUNK);
+    }
+
+    /**
+     * @param b numéro de bloc.
+     * @param nBlocks nombre de blocs.
+     * @param lo début de l'intervalle découpé.
+     * @param hi fin (exclue) de l'intervalle découpé.
+     * @return premier indice du bloc b (le bloc s'arrête au début du bloc b + 1).
+     */
+    public static int blockStart(int b, int nBlocks, int lo, int hi){
+        return lo + (int) ((long) (hi - lo) * b / nBlocks);
+    }
+
+    /**
+     * Exécute body(0) ... body(nBlocks - 1) en parallèle et attend la fin.
+     *
+     * @param pool pool de threads.
+     * @param nBlocks nombre de blocs.
+     * @param body traitement d'un bloc.
+     */
+    public static void blocks(ForkJoinPool pool, int nBlocks, IntConsumer body){
+        if (nBlocks == 1)
+            body.accept(0);
+        else
+            pool.invoke(new BlockTask(0, nBlocks, body));
+    }
+
+    private static class BlockTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+        private final int hi;
+        private final IntConsumer body;
+
+        BlockTask(int lo, int hi, IntConsumer body){
+            this.lo = lo;
+            this.hi = hi;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1){
+                body.accept(lo);
+            }
+            else {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new BlockTask(lo, mid, body), new BlockTask(mid, hi, body));
+            }
+        }
+    }
+}
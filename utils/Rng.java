@@ -0,0 +1,64 @@
+/*
+ * Rng.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Générateur pseudo-aléatoire utilisé par tous les algorithmes. Il n'est pas
+ * synchronisé : chaque thread doit avoir le sien, obtenu avec split().
+ */
+public interface Rng {
+
+    /**
+     * @param bound borne (strictement positive).
+     * @return un entier uniforme dans [0, bound).
+     */
+    int nextInt(int bound);
+
+    /**
+     * @return un long uniforme.
+     */
+    long nextLong();
+
+    /**
+     * @return un double uniforme dans [0, 1).
+     */
+    double nextDouble();
+
+    /**
+     * Crée un générateur indépendant de celui-ci (pour un autre thread). Le
+     * résultat ne dépend que de l'état de ce générateur : avec la même graine
+     * on obtient toujours les mêmes flux.
+     *
+     * @return un nouveau générateur.
+     */
+    Rng split();
+
+    /**
+     * @return graine d'origine du générateur (pour un générateur obtenu par
+     * split(), celle de son ancêtre). Sert à retrouver un tirage dans les
+     * traces.
+     */
+    long seed();
+
+    /**
+     * @param seed graine.
+     * @return un générateur qui donne toujours la même suite pour cette graine.
+     */
+    static Rng seeded(long seed){
+        return new Xoroshiro128(seed);
+    }
+
+    /**
+     * @return un générateur de graine quelconque.
+     */
+    static Rng create(){
+        return seeded(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * SpaceSaving.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+import graph.TreeCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algorithme Space-Saving : garde k compteurs pour les arbres les plus
+ * fréquents d'un flux. Un arbre suivi voit son compteur augmenter ; un arbre
+ * nouveau prend la place du compteur le plus petit, dont il hérite la valeur
+ * (qui devient son erreur possible). Tout arbre apparu plus de n / k fois
+ * est forcément suivi, y compris après la fusion de résumés par addAll().
+ *
+ * Les arbres sont reconnus à leur seul hachage 64 bits ({@link TreeCode#hash}) :
+ * deux arbres de même hachage partagent un compteur. Leurs arêtes sont
+ * recopiées dans des tableaux alloués une fois pour toutes : le comptage
+ * n'alloue rien.
+ */
+public class SpaceSaving {
+    private final int k;
+
+    /**
+     * Pour chaque compteur : hachage, arêtes, valeur et erreur possible.
+     */
+    private final long[] hashes;
+    private final int[][] edgeIds;
+    private final int[] sizes;
+    private final long[] counts;
+    private final long[] errors;
+    private int used;
+
+    /**
+     * Tas binaire des compteurs par valeur croissante, et position de chaque
+     * compteur dans le tas.
+     */
+    private final int[] heap;
+    private final int[] position;
+
+    /**
+     * Table à adressage ouvert : hachage -> numéro de compteur + 1 (0 si vide).
+     */
+    private final int[] index;
+
+    /**
+     * @param k nombre de compteurs.
+     * @param treeSize nombre d'arêtes d'un arbre.
+     */
+    public SpaceSaving(int k, int treeSize){
+        if (k < 1)
+            throw new IllegalArgumentException("il faut au moins un compteur");
+        this.k = k;
+        this.hashes = new long[k];
+        this.edgeIds = new int[k][treeSize];
+        this.sizes = new int[k];
+        this.counts = new long[k];
+        this.errors = new long[k];
+        this.heap = new int[k];
+        this.position = new int[k];
+        this.index = new int[Integer.highestOneBit(k) * 4];
+    }
+
+    /**
+     * Compte n apparitions d'un arbre.
+     *
+     * @param hash hachage de l'arbre.
+     * @param ids numéros des arêtes, dans ids[0 ... size - 1].
+     * @param size nombre d'arêtes.
+     * @param n nombre d'apparitions.
+     */
+    public void add(long hash, int[] ids, int size, long n){
+        int slot = find(hash);
+        if (index[slot] != 0){
+            int c = index[slot] - 1;
+            counts[c] += n;
+            siftDown(position[c]);
+            return;
+        }
+
+        int c;
+        if (used < k){
+            c = used++;
+            heap[c] = c;
+            position[c] = c;
+            errors[c] = 0;
+            counts[c] = n;
+            siftUp(c);
+        }
+        else {
+            // Remplace le plus petit compteur.
+            c = heap[0];
+            remove(hashes[c]);
+            slot = find(hash);
+            errors[c] = counts[c];
+            counts[c] += n;
+            siftDown(0);
+        }
+        hashes[c] = hash;
+        sizes[c] = size;
+        System.arraycopy(ids, 0, edgeIds[c], 0, size);
+        index[slot] = c + 1;
+    }
+
+    /**
+     * Ajoute à ce résumé les compteurs d'un autre (fusion d'Agarwal et al.,
+     * « Mergeable Summaries ») : un arbre absent d'un des deux résumés a pu y
+     * apparaître jusqu'à son plus petit compteur (0 s'il reste des compteurs
+     * libres), qui s'ajoute alors à sa valeur et à son erreur. On garde
+     * ensuite les k plus grandes valeurs.
+     *
+     * @param other résumé avec le même nombre d'arêtes par arbre.
+     */
+    public void addAll(SpaceSaving other){
+        long min = used < k ? 0 : counts[heap[0]];
+        long otherMin = other.used < other.k ? 0 : other.counts[other.heap[0]];
+
+        // Candidats : les arbres des deux résumés, une seule fois chacun.
+        int n = 0;
+        long[] mergedHashes = new long[used + other.used];
+        int[][] mergedIds = new int[used + other.used][];
+        int[] mergedSizes = new int[used + other.used];
+        long[] mergedCounts = new long[used + other.used];
+        long[] mergedErrors = new long[used + other.used];
+        for (int c = 0; c < used; c++){
+            int o = other.index[other.find(hashes[c])] - 1;
+            mergedHashes[n] = hashes[c];
+            mergedIds[n] = edgeIds[c].clone();
+            mergedSizes[n] = sizes[c];
+            mergedCounts[n] = counts[c] + (o >= 0 ? other.counts[o] : otherMin);
+            mergedErrors[n] = errors[c] + (o >= 0 ? other.errors[o] : otherMin);
+            n++;
+        }
+        for (int o = 0; o < other.used; o++){
+            if (index[find(other.hashes[o])] != 0)
+                continue;
+            mergedHashes[n] = other.hashes[o];
+            mergedIds[n] = other.edgeIds[o];
+            mergedSizes[n] = other.sizes[o];
+            mergedCounts[n] = other.counts[o] + min;
+            mergedErrors[n] = other.errors[o] + min;
+            n++;
+        }
+
+        // Garde les k plus grandes valeurs.
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++)
+            order[i] = i;
+        Arrays.sort(order, (a, b) -> Long.compare(mergedCounts[b], mergedCounts[a]));
+        Arrays.fill(index, 0);
+        used = 0;
+        for (int i = 0; i < Math.min(n, k); i++){
+            int m = order[i];
+            int c = used++;
+            hashes[c] = mergedHashes[m];
+            sizes[c] = mergedSizes[m];
+            System.arraycopy(mergedIds[m], 0, edgeIds[c], 0, mergedSizes[m]);
+            counts[c] = mergedCounts[m];
+            errors[c] = mergedErrors[m];
+            heap[c] = c;
+            position[c] = c;
+            siftUp(c);
+            index[find(hashes[c])] = c + 1;
+        }
+    }
+
+    /**
+     * @param n nombre d'arbres voulus.
+     * @return les n arbres les plus fréquents, par valeur décroissante.
+     */
+    public List<Entry> top(int n){
+        Integer[] order = new Integer[used];
+        for (int c = 0; c < used; c++)
+            order[c] = c;
+        Arrays.sort(order, (a, b) -> Long.compare(counts[b], counts[a]));
+        List<Entry> top = new ArrayList<>();
+        for (int i = 0; i < Math.min(n, used); i++){
+            int c = order[i];
+            top.add(new Entry(TreeCode.of(edgeIds[c], sizes[c]), counts[c], errors[c]));
+        }
+        return top;
+    }
+
+    /* -------------------------------------------------
+     *                 TABLE ET TAS INTERNES
+     * ------------------------------------------------- */
+
+    /**
+     * @return case de la table qui contient le hachage, ou case vide où le mettre.
+     */
+    private int find(long hash){
+        int mask = index.length - 1;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (index[slot] != 0 && hashes[index[slot] - 1] != hash)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /**
+     * Enlève un hachage de la table en recalant les cases suivantes.
+     */
+    private void remove(long hash){
+        int mask = index.length - 1;
+        int hole = find(hash);
+        index[hole] = 0;
+        for (int slot = (hole + 1) & mask; index[slot] != 0; slot = (slot + 1) & mask){
+            long h = hashes[index[slot] - 1];
+            int home = (int) (h ^ (h >>> 32)) & mask;
+            // La case peut remonter dans le trou si son origine n'est pas entre le trou et elle.
+            if (((slot - home) & mask) >= ((slot - hole) & mask)){
+                index[hole] = index[slot];
+                index[slot] = 0;
+                hole = slot;
+            }
+        }
+    }
+
+    private void siftUp(int i){
+        while (i > 0){
+            int parent = (i - 1) / 2;
+            if (counts[heap[parent]] <= counts[heap[i]])
+                return;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i){
+        while (true){
+            int smallest = i;
+            int left = 2 * i + 1;
+            if (left < used && counts[heap[left]] < counts[heap[smallest]])
+                smallest = left;
+            if (left + 1 < used && counts[heap[left + 1]] < counts[heap[smallest]])
+                smallest = left + 1;
+            if (smallest == i)
+                return;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int i, int j){
+        int a = heap[i];
+        heap[i] = heap[j];
+        heap[j] = a;
+        position[heap[i]] = i;
+        position[heap[j]] = j;
+    }
+
+    /**
+     * Un arbre suivi : sa fréquence réelle est entre count - error et count.
+     */
+    public static final class Entry {
+        private final TreeCode code;
+        private final long count;
+        private final long error;
+
+        Entry(TreeCode code, long count, long error){
+            this.code = code;
+            this.count = count;
+            this.error = error;
+        }
+
+        public TreeCode getCode(){
+            return code;
+        }
+
+        public long getCount(){
+            return count;
+        }
+
+        public long getError(){
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return code + " : " + count + " (± " + error + ")";
+        }
+    }
+}
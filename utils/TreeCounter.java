@@ -0,0 +1,144 @@
+/*
+ * TreeCounter.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+import algorithms.TreeSink;
+import graph.TreeCode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Table qui compte les apparitions d'arbres couvrants, à adressage ouvert sur
+ * le hachage 64 bits de {@link TreeCode}. Un arbre déjà vu est compté sans
+ * rien allouer : seul un arbre nouveau donne lieu à la création de son code.
+ * La table n'est pas thread-safe : chaque thread garde la sienne et on les
+ * réunit avec addAll().
+ */
+public class TreeCounter implements TreeSink {
+    private TreeCode[] codes;
+    private long[] counts;
+    private int distinct;
+    private long total;
+
+    public TreeCounter(){
+        this.codes = new TreeCode[16];
+        this.counts = new long[16];
+    }
+
+    /**
+     * Compte une apparition de l'arbre formé des arêtes données.
+     *
+     * @param edgeIds numéros des arêtes, dans edgeIds[0 ... size - 1].
+     * @param size nombre d'arêtes.
+     * @return nombre d'apparitions de l'arbre, celle-ci comprise.
+     */
+    public long add(int[] edgeIds, int size){
+        long hash = TreeCode.hash(edgeIds, size);
+        int mask = codes.length - 1;
+        int slot = spread(hash) & mask;
+        while (codes[slot] != null){
+            if (codes[slot].matches(hash, edgeIds, size)){
+                total++;
+                return ++counts[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        insert(slot, TreeCode.of(edgeIds, size), 1);
+        return 1;
+    }
+
+    @Override
+    public void accept(int[] edgeIds, int size) {
+        add(edgeIds, size);
+    }
+
+    /**
+     * Ajoute n apparitions d'un arbre.
+     *
+     * @param code code de l'arbre.
+     * @param n nombre d'apparitions.
+     */
+    public void add(TreeCode code, long n){
+        int mask = codes.length - 1;
+        int slot = spread(code.hash64()) & mask;
+        while (codes[slot] != null){
+            if (codes[slot].equals(code)){
+                counts[slot] += n;
+                total += n;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        insert(slot, code, n);
+    }
+
+    /**
+     * Ajoute à cette table les comptes d'une autre table.
+     */
+    public void addAll(TreeCounter other){
+        for (int slot = 0; slot < other.codes.length; slot++)
+            if (other.codes[slot] != null)
+                add(other.codes[slot], other.counts[slot]);
+    }
+
+    private void insert(int slot, TreeCode code, long n){
+        codes[slot] = code;
+        counts[slot] = n;
+        total += n;
+        // Facteur de charge au plus 1/2.
+        if (++distinct * 2 > codes.length)
+            grow();
+    }
+
+    private void grow(){
+        TreeCode[] oldCodes = codes;
+        long[] oldCounts = counts;
+        codes = new TreeCode[oldCodes.length * 2];
+        counts = new long[oldCounts.length * 2];
+        int mask = codes.length - 1;
+        for (int i = 0; i < oldCodes.length; i++){
+            if (oldCodes[i] == null)
+                continue;
+            int slot = spread(oldCodes[i].hash64()) & mask;
+            while (codes[slot] != null)
+                slot = (slot + 1) & mask;
+            codes[slot] = oldCodes[i];
+            counts[slot] = oldCounts[i];
+        }
+    }
+
+    private static int spread(long hash){
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * @return nombre d'arbres différents.
+     */
+    public int distinct(){
+        return distinct;
+    }
+
+    /**
+     * @return nombre total d'apparitions.
+     */
+    public long total(){
+        return total;
+    }
+
+    /**
+     * @return nombre d'apparitions de chaque arbre.
+     */
+    public Map<TreeCode, Long> toMap(){
+        Map<TreeCode, Long> map = new HashMap<>();
+        for (int slot = 0; slot < codes.length; slot++)
+            if (codes[slot] != null)
+                map.put(codes[slot], counts[slot]);
+        return map;
+    }
+}
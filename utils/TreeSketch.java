@@ -0,0 +1,103 @@
+/*
+ * TreeSketch.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+import algorithms.TreeSink;
+import graph.IndexedGraph;
+import graph.TreeCode;
+
+import java.util.List;
+
+/**
+ * Statistiques sur les arbres tirés en mémoire constante, quel que soit le
+ * nombre de tirages : estimation du nombre d'arbres distincts
+ * ({@link HyperLogLog}), arbres les plus fréquents ({@link SpaceSaving}) et
+ * nombre exact d'apparitions de chaque arête. À utiliser à la place de
+ * {@link TreeCounter} quand le graphe a trop d'arbres couvrants pour les
+ * compter un par un.
+ *
+ * Un TreeSketch n'est pas thread-safe : chaque thread garde le sien et on les
+ * réunit avec addAll().
+ */
+public class TreeSketch implements TreeSink {
+    private final HyperLogLog distinct;
+    private final SpaceSaving heavy;
+    private final long[] edgeCounts;
+    private long samples;
+
+    /**
+     * @param graph graphe des arbres.
+     * @param precision précision de l'estimation du nombre d'arbres distincts
+     *                  (voir {@link HyperLogLog}).
+     * @param k nombre d'arbres fréquents suivis.
+     */
+    public TreeSketch(IndexedGraph graph, int precision, int k){
+        this.distinct = new HyperLogLog(precision);
+        this.heavy = new SpaceSaving(k, Math.max(graph.vertices() - 1, 0));
+        this.edgeCounts = new long[graph.edgeCount()];
+    }
+
+    @Override
+    public void accept(int[] edgeIds, int size) {
+        long hash = TreeCode.hash(edgeIds, size);
+        distinct.add(hash);
+        heavy.add(hash, edgeIds, size, 1);
+        for (int k = 0; k < size; k++)
+            edgeCounts[edgeIds[k]]++;
+        samples++;
+    }
+
+    /**
+     * Ajoute à ces statistiques celles d'un autre TreeSketch sur le même graphe.
+     */
+    public void addAll(TreeSketch other){
+        distinct.addAll(other.distinct);
+        heavy.addAll(other.heavy);
+        for (int id = 0; id < edgeCounts.length; id++)
+            edgeCounts[id] += other.edgeCounts[id];
+        samples += other.samples;
+    }
+
+    /**
+     * @return nombre d'arbres tirés.
+     */
+    public long samples(){
+        return samples;
+    }
+
+    /**
+     * @return estimation du nombre d'arbres distincts tirés.
+     */
+    public double distinctEstimate(){
+        return distinct.estimate();
+    }
+
+    /**
+     * @param n nombre d'arbres voulus.
+     * @return les n arbres les plus fréquents, par nombre d'apparitions décroissant.
+     */
+    public List<SpaceSaving.Entry> top(int n){
+        return heavy.top(n);
+    }
+
+    /**
+     * @param id numéro d'arête.
+     * @return nombre d'arbres tirés qui contiennent l'arête.
+     */
+    public long edgeCount(int id){
+        return edgeCounts[id];
+    }
+
+    /**
+     * @param id numéro d'arête.
+     * @return proportion des arbres tirés qui contiennent l'arête.
+     */
+    public double edgeFrequency(int id){
+        return samples == 0 ? 0 : (double) edgeCounts[id] / samples;
+    }
+}
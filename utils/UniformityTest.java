@@ -0,0 +1,345 @@
+/*
+ * UniformityTest.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+import algorithms.Algorithm;
+import algorithms.TreeSink;
+import graph.IndexedGraph;
+
+import java.math.BigInteger;
+import java.util.Locale;
+
+/**
+ * Vérifie qu'un algorithme tire les arbres couvrants uniformément. Le nombre
+ * d'arbres N est donné exactement par {@link MatrixTree} ; les tirages sont
+ * comptés au fil de l'eau dans une {@link TreeCounter} et on tient à jour la
+ * somme des carrés des effectifs, d'où le khi-deux de Pearson
+ * X² = N/n * Σo² - n à N - 1 degrés de liberté (les arbres jamais tirés sont
+ * pris en compte par la formule).
+ *
+ * Le test est fait à des points de contrôle de plus en plus espacés (chaque
+ * point double le nombre de tirages), chacun au seuil alpha / (nombre de
+ * points) (correction de Bonferroni). On s'arrête au premier point qui
+ * conclut :
+ *   - rejet : le khi-deux est trop grand, l'algorithme est biaisé (quelques
+ *     dizaines de tirages par arbre suffisent en général) ;
+ *   - acceptation : l'écart à l'uniformité, mesuré par la taille d'effet
+ *     w = sqrt(Σ(p - 1/N)² * N) de Cohen, est borné au même seuil par une
+ *     valeur au plus égale à la tolérance. Sous l'hypothèse d'un écart w, X²
+ *     suit une loi du khi-deux décentrée de paramètre λ = n w², approchée par
+ *     une loi normale de moyenne N - 1 + λ et de variance 2(N - 1 + 2λ) ; la
+ *     borne est le plus grand λ compatible avec le X² observé.
+ * Pour un algorithme uniforme, il faut de l'ordre de sqrt(N) / w² tirages
+ * pour accepter, bien moins qu'un nombre fixé à l'avance.
+ */
+public class UniformityTest {
+
+    /**
+     * Au-delà, la table des effectifs serait trop grosse : il faut passer par
+     * des estimations (voir les esquisses).
+     */
+    public static final long MAX_TREES = 1L << 24;
+
+    /**
+     * Effectif moyen par arbre au premier point de contrôle (au moins 5 pour
+     * que l'approximation du khi-deux soit valable).
+     */
+    private static final int FIRST_EXPECTED = 8;
+
+    /**
+     * Tolérance par défaut sur la taille d'effet w (« petit » effet selon
+     * Cohen).
+     */
+    public static final double DEFAULT_TOLERANCE = 0.1;
+
+    private final IndexedGraph graph;
+    private final long trees;
+    private final double alpha;
+    private final double tolerance;
+
+    /**
+     * @param graph graphe connexe avec au plus MAX_TREES arbres couvrants.
+     * @param alpha risque de rejeter à tort un algorithme uniforme.
+     */
+    public UniformityTest(IndexedGraph graph, double alpha){
+        this(graph, alpha, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * @param graph graphe connexe avec au plus MAX_TREES arbres couvrants.
+     * @param alpha risque de se tromper à chaque conclusion (rejet d'un
+     *              algorithme uniforme, ou acceptation d'un algorithme dont
+     *              l'écart dépasse la tolérance).
+     * @param tolerance plus grande taille d'effet w acceptée comme uniforme.
+     */
+    public UniformityTest(IndexedGraph graph, double alpha, double tolerance){
+        BigInteger n = MatrixTree.count(graph);
+        if (n.signum() == 0)
+            throw new IllegalArgumentException("le graphe n'est pas connexe");
+        if (n.compareTo(BigInteger.valueOf(MAX_TREES)) > 0)
+            throw new IllegalArgumentException("trop d'arbres couvrants (" + n + ") pour un test exact");
+        if (!(alpha > 0 && alpha < 1))
+            throw new IllegalArgumentException("alpha doit être dans ]0, 1[");
+        if (!(tolerance > 0))
+            throw new IllegalArgumentException("la tolérance doit être positive");
+        this.graph = graph;
+        this.trees = n.longValue();
+        this.alpha = alpha;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * @return nombre d'arbres couvrants du graphe.
+     */
+    public long trees(){
+        return trees;
+    }
+
+    /**
+     * Tire des arbres avec l'algorithme jusqu'au rejet ou à l'acceptation de
+     * l'uniformité, ou jusqu'à maxSamples tirages si aucun point de contrôle
+     * ne conclut (le résultat n'est alors pas concluant).
+     *
+     * @param algo algorithme à tester, construit sur le même graphe.
+     * @param maxSamples nombre maximal de tirages.
+     * @return résultat du dernier point de contrôle.
+     */
+    public Result run(Algorithm algo, long maxSamples){
+        long first = Math.max(FIRST_EXPECTED * trees, 100);
+        if (maxSamples < first)
+            throw new IllegalArgumentException("il faut au moins " + first + " tirages");
+        int checkpoints = 1;
+        for (long c = first; c * 2 <= maxSamples; c *= 2)
+            checkpoints++;
+        double level = alpha / checkpoints;
+        double z = normalQuantile(level);
+
+        TreeCounter counter = new TreeCounter();
+        long[] sumSquares = new long[1];
+        boolean[] outside = new boolean[1];
+        TreeSink sink = (edgeIds, size) -> {
+            if (size != graph.vertices() - 1)
+                outside[0] = true;
+            long c = counter.add(edgeIds, size);
+            sumSquares[0] += 2 * c - 1;
+        };
+
+        Result result = null;
+        for (long target = first; target <= maxSamples; target *= 2){
+            long done = counter.total();
+            while (done < target){
+                int batch = (int) Math.min(target - done, Integer.MAX_VALUE);
+                algo.sample(batch, sink);
+                done += batch;
+            }
+
+            long n = counter.total();
+            double statistic = (double) trees / n * sumSquares[0] - n;
+            double pValue = chiSquareSurvival(statistic, trees - 1);
+            double effect = effectBound(statistic, trees - 1, n, z);
+            // Plus d'arbres différents que N : l'algorithme rend autre chose que des arbres couvrants.
+            if (outside[0] || counter.distinct() > trees){
+                pValue = 0;
+                effect = Double.POSITIVE_INFINITY;
+            }
+            boolean uniform = pValue >= level;
+            result = new Result(n, statistic, pValue, effect, uniform, !uniform || effect <= tolerance);
+            if (result.isConclusive())
+                break;
+            if (target > maxSamples / 2)
+                break;
+        }
+        return result;
+    }
+
+    /**
+     * Borne supérieure de la taille d'effet : plus grand λ tel que
+     * N - 1 + λ - z sqrt(2(N - 1 + 2λ)) <= X². En posant s = sqrt(2df + 4λ),
+     * c'est la plus grande racine de s² - 4zs + 2df - 4X² = 0.
+     *
+     * @param statistic khi-deux observé.
+     * @param df degrés de liberté.
+     * @param n nombre de tirages.
+     * @param z quantile de la loi normale au seuil du point de contrôle.
+     * @return sqrt(λ / n).
+     */
+    static double effectBound(double statistic, double df, long n, double z){
+        double s = 2 * z + Math.sqrt(Math.max(0, 4 * z * z - 2 * df + 4 * statistic));
+        double lambda = Math.max(0, (s * s - 2 * df) / 4);
+        return Math.sqrt(lambda / n);
+    }
+
+    /* -------------------------------------------------
+     *                   LOI DU KHI-DEUX
+     * ------------------------------------------------- */
+
+    /**
+     * @return P(X >= x) pour X qui suit une loi du khi-deux à df degrés de
+     * liberté, c'est-à-dire Q(df / 2, x / 2) (fonction gamma incomplète
+     * régularisée).
+     */
+    static double chiSquareSurvival(double x, double df){
+        if (df <= 0)
+            return x > 0 ? 0 : 1;
+        if (x <= 0)
+            return 1;
+        double a = df / 2;
+        double y = x / 2;
+        return y < a + 1 ? 1 - lowerSeries(a, y) : upperFraction(a, y);
+    }
+
+    /**
+     * @return z tel que P(Z >= z) = p pour Z de loi normale centrée réduite
+     * (0 < p < 1/2), par dichotomie sur P(Z >= z) = Q(1/2, z² / 2) / 2.
+     */
+    static double normalQuantile(double p){
+        double lo = 0;
+        double hi = 40;
+        for (int i = 0; i < 100; i++){
+            double mid = (lo + hi) / 2;
+            if (chiSquareSurvival(mid * mid, 1) / 2 > p)
+                lo = mid;
+            else
+                hi = mid;
+        }
+        return (lo + hi) / 2;
+    }
+
+    /**
+     * P(a, y) par son développement en série, qui converge vite pour y < a + 1.
+     */
+    private static double lowerSeries(double a, double y){
+        double term = 1 / a;
+        double sum = term;
+        for (int n = 1; n < 1000000; n++){
+            term *= y / (a + n);
+            sum += term;
+            if (Math.abs(term) < Math.abs(sum) * 1e-15)
+                break;
+        }
+        return sum * Math.exp(-y + a * Math.log(y) - logGamma(a));
+    }
+
+    /**
+     * Q(a, y) par sa fraction continue (algorithme de Lentz), pour y >= a + 1.
+     */
+    private static double upperFraction(double a, double y){
+        double tiny = 1e-300;
+        double b = y + 1 - a;
+        double c = 1 / tiny;
+        double d = 1 / b;
+        double h = d;
+        for (int i = 1; i < 1000000; i++){
+            double an = -i * (i - a);
+            b += 2;
+            d = an * d + b;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = b + an / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1 / d;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < 1e-15)
+                break;
+        }
+        return Math.exp(-y + a * Math.log(y) - logGamma(a)) * h;
+    }
+
+    /**
+     * ln Γ(a) pour a > 0 (approximation de Lanczos, g = 7).
+     */
+    private static double logGamma(double a){
+        final double[] c = {0.99999999999980993, 676.5203681218851, -1259.1392167224028,
+                771.32342877765313, -176.61502916214059, 12.507343278686905,
+                -0.13857109526572012, 9.9843695780195716e-6, 1.5056327351493116e-7};
+        if (a < 0.5)
+            return Math.log(Math.PI / Math.sin(Math.PI * a)) - logGamma(1 - a);
+        a -= 1;
+        double sum = c[0];
+        for (int i = 1; i < c.length; i++)
+            sum += c[i] / (a + i);
+        double t = a + 7.5;
+        return 0.5 * Math.log(2 * Math.PI) + (a + 0.5) * Math.log(t) - t + Math.log(sum);
+    }
+
+    /* -------------------------------------------------
+     *                      RÉSULTAT
+     * ------------------------------------------------- */
+
+    /**
+     * Résultat d'un point de contrôle.
+     */
+    public static final class Result {
+        private final long samples;
+        private final double statistic;
+        private final double pValue;
+        private final double effect;
+        private final boolean uniform;
+        private final boolean conclusive;
+
+        Result(long samples, double statistic, double pValue, double effect, boolean uniform, boolean conclusive){
+            this.samples = samples;
+            this.statistic = statistic;
+            this.pValue = pValue;
+            this.effect = effect;
+            this.uniform = uniform;
+            this.conclusive = conclusive;
+        }
+
+        /**
+         * @return nombre de tirages utilisés.
+         */
+        public long getSamples(){
+            return samples;
+        }
+
+        /**
+         * @return statistique du khi-deux.
+         */
+        public double getStatistic(){
+            return statistic;
+        }
+
+        /**
+         * @return probabilité d'un écart au moins aussi grand sous l'hypothèse
+         * d'uniformité.
+         */
+        public double getPValue(){
+            return pValue;
+        }
+
+        /**
+         * @return borne supérieure de la taille d'effet w.
+         */
+        public double getEffectBound(){
+            return effect;
+        }
+
+        /**
+         * @return faux si l'uniformité a été rejetée.
+         */
+        public boolean isUniform(){
+            return uniform;
+        }
+
+        /**
+         * @return vrai si l'uniformité a été rejetée ou acceptée, faux si
+         * les tirages ont manqué pour conclure.
+         */
+        public boolean isConclusive(){
+            return conclusive;
+        }
+
+        @Override
+        public String toString() {
+            String verdict = !uniform ? "non uniforme" : conclusive ? "uniforme" : "pas de conclusion";
+            return verdict + " (" + samples + " tirages, khi-deux = " + String.format(Locale.US, "%.2f", statistic)
+                    + ", p = " + pValue + ", w <= " + String.format(Locale.US, "%.3f", effect) + ")";
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Xoroshiro128.java
+ * Project
+ *
+ * Created on 18/10/2026.
+ */
+
+package utils;
+
+/**
+ * Générateur xoroshiro128++ (Blackman et Vigna) : 128 bits d'état, rapide et
+ * sans synchronisation. jump() avance de 2^64 tirages, ce qui sert à découper
+ * la suite en flux indépendants pour split().
+ */
+public class Xoroshiro128 implements Rng {
+    private static final long[] JUMP = { 0x2bd7a6a6e99c2ddcL, 0x0992ccaf6a6fca05L };
+
+    private long s0;
+    private long s1;
+    private final long seed;
+
+    /**
+     * @param seed graine, étendue à 128 bits avec splitmix64.
+     */
+    public Xoroshiro128(long seed){
+        this.seed = seed;
+        long z = seed;
+        z += 0x9e3779b97f4a7c15L;
+        this.s0 = mix(z);
+        z += 0x9e3779b97f4a7c15L;
+        this.s1 = mix(z);
+        if ((s0 | s1) == 0)
+            s1 = 1;
+    }
+
+    private Xoroshiro128(long s0, long s1, long seed){
+        this.s0 = s0;
+        this.s1 = s1;
+        this.seed = seed;
+    }
+
+    private static long mix(long z){
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public long nextLong() {
+        long a = s0;
+        long b = s1;
+        long result = Long.rotateLeft(a + b, 17) + a;
+        b ^= a;
+        s0 = Long.rotateLeft(a, 49) ^ b ^ (b << 21);
+        s1 = Long.rotateLeft(b, 28);
+        return result;
+    }
+
+    /**
+     * Méthode de Lemire : une multiplication, et un rejet seulement dans de
+     * rares cas pour que le résultat soit exactement uniforme.
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0)
+            throw new IllegalArgumentException("la borne doit être positive");
+        long m = (nextLong() >>> 32) * bound;
+        if ((m & 0xffffffffL) < bound){
+            long threshold = (0x100000000L - bound) % bound;
+            while ((m & 0xffffffffL) < threshold)
+                m = (nextLong() >>> 32) * bound;
+        }
+        return (int) (m >>> 32);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Avance de 2^64 tirages.
+     */
+    public void jump(){
+        long t0 = 0;
+        long t1 = 0;
+        for (long j : JUMP){
+            for (int b = 0; b < 64; b++){
+                if ((j & (1L << b)) != 0){
+                    t0 ^= s0;
+                    t1 ^= s1;
+                }
+                nextLong();
+            }
+        }
+        s0 = t0;
+        s1 = t1;
+    }
+
+    /**
+     * Le nouveau générateur reprend l'état actuel, puis celui-ci saute de
+     * 2^64 tirages : les deux suites ne se recouvrent pas.
+     */
+    @Override
+    public Rng split() {
+        Xoroshiro128 copy = new Xoroshiro128(s0, s1, seed);
+        jump();
+        return copy;
+    }
+}